@@ -0,0 +1,50 @@
+package command;
+
+import domain.Player;
+import domain.PurchaseReceipt;
+import domain.item.ItemType;
+import domain.item.ShopItemManager;
+
+import java.io.PrintStream;
+
+/**
+ * Text-mode shop: "buy item [quantity]" buys from the current shop catalog.
+ */
+public class BuyCommand implements Command {
+    private final Player player;
+    private final PrintStream out; // Where the results are printed
+
+    public BuyCommand(Player player, PrintStream out) {
+        this.player = player;
+        this.out = out;
+    }
+
+    @Override
+    public void execute(String[] args) {
+        if (args.length < 1) {
+            out.println("Usage: buy <item> [quantity]");
+            return;
+        }
+        ItemType type = ShopItemManager.getCatalog().findByName(args[0]);
+        if (type == null) {
+            out.println("The shop does not sell " + args[0] + ".");
+            return;
+        }
+        int quantity = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        PurchaseReceipt receipt = player.purchase(type, quantity);
+        switch (receipt.getStatus()) {
+            case SUCCESS:
+                out.printf("Purchased %d %s for %.2f euros. Money: %.2f euros%n",
+                        quantity, type.getDisplayName(), receipt.getTotalCost(), receipt.getBalance());
+                break;
+            case INSUFFICIENT_FUNDS:
+                out.printf("Insufficient funds: the order costs %.2f euros%n", receipt.getTotalCost());
+                break;
+            case INVENTORY_FULL:
+                out.println("Inventory is full! No free slot for a new item.");
+                break;
+            default:
+                out.println("Invalid quantity");
+        }
+    }
+}
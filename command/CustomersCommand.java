@@ -0,0 +1,32 @@
+package command;
+
+import sim.SimCustomer;
+import sim.Simulation;
+
+import java.io.PrintStream;
+
+/**
+ * Text mode: lists the customers in the restaurant with their orders and remaining patience.
+ */
+public class CustomersCommand implements Command {
+    private final Simulation simulation;
+    private final PrintStream out; // Where the results are printed
+
+    public CustomersCommand(Simulation simulation, PrintStream out) {
+        this.simulation = simulation;
+        this.out = out;
+    }
+
+    @Override
+    public void execute(String[] args) {
+        if (simulation.getCustomers().isEmpty()) {
+            out.println("No customers are waiting.");
+            return;
+        }
+        for (SimCustomer customer : simulation.getCustomers()) {
+            String state = customer.isWalking() ? "walking in" : customer.getRemainingTime() / 1000 + " s left";
+            out.println("- Customer " + customer.getId() + " orders "
+                    + String.join(", ", customer.getOrderedMenus()) + " (" + state + ")");
+        }
+    }
+}
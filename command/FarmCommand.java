@@ -1,29 +1,38 @@
 package command;
 
 import domain.Farm;
-import domain.item.HarvestItem;
+import domain.item.ItemType;
+
+import java.io.PrintStream;
 
 public class FarmCommand implements Command {
     private Farm farm;
+    private final PrintStream out; // Where the crop list is printed
 
     public FarmCommand(Farm farm) {
+        this(farm, System.out);
+    }
+
+    public FarmCommand(Farm farm, PrintStream out) {
         this.farm = farm;
+        this.out = out;
     }
 
 
     @Override
     public void execute(String[] args) {
-        // get planted crops list in the farm
-        if (farm.getCrops().isEmpty()) {
-            System.out.println("No crops have been planted yet.");
+        // list planted crops by their plot in the farm
+        if (farm.getCropCount() == 0) {
+            out.println("No crops have been planted yet.");
         } else {
-            for (HarvestItem crop : farm.getCrops()) {
-                String cropStatus = crop.isReadyToHarvest()
+            farm.forEachCropIn(0, 0, farm.getWidth() - 1, farm.getHeight() - 1, (x, y) -> {
+                ItemType crop = farm.getCropType(x, y);
+                String cropStatus = farm.isReadyToHarvest(x, y)
                         ? "Ready to Harvest"
-                        : "Growing (" + crop.getGrowthProgress() + "%)";
+                        : "Growing (" + farm.getGrowthProgress(x, y) + "%)";
 
-                System.out.println("- " + crop.getName() + ": " + cropStatus);
-            }
+                out.println("- " + crop.getDisplayName() + " (" + x + ", " + y + "): " + cropStatus);
+            });
         }
     }
 }
@@ -1,129 +1,65 @@
 package command;
 
-import domain.Farm;
-import domain.item.HarvestItem;
-import domain.Player;
-import game.tile.FarmTile;
 import game.ui.GamePanel;
 import game.entity.PlayerRenderer;
+import sim.HarvestReport;
+import sim.Simulation;
 import javax.swing.JOptionPane; // JOptionPane 추가
-import java.util.Random;
+import java.io.PrintStream;
 
 /**
  * Command to handle harvesting crops from the farm.
+ * The harvest rules live in the {@link Simulation}; this command picks the plot and shows the result.
  */
 public class HarvestCommand implements Command {
-    private Player player;
-    private Farm farm;
-    private FarmTile[][] tiles;
+    private Simulation simulation;
     private PlayerRenderer playerRenderer;
     private GamePanel gamePanel;
+    private final PrintStream out; // Where the report is printed when there is no window
     private static final int TILE_SIZE = 40; // Tile size is same as GamePanel TILE_SIZE
-    private Random random = new Random();
 
-    public HarvestCommand(Player player, Farm farm, FarmTile[][] tiles, PlayerRenderer playerRenderer, GamePanel gamePanel) {
-        this.player = player;
-        this.farm = farm;
-        this.tiles = tiles;
+    public HarvestCommand(Simulation simulation, PlayerRenderer playerRenderer, GamePanel gamePanel) {
+        this.simulation = simulation;
         this.playerRenderer = playerRenderer;
         this.gamePanel = gamePanel;
+        this.out = System.out;
     }
 
     /**
-     * Checks if a tile is within interaction range of the player.
+     * Text mode: the plot is given as "harvest x y" and the report is printed to the given stream.
      */
-    private boolean isInteractable(int tileX, int tileY) {
-        int playerCenterX = playerRenderer.getX() + (playerRenderer.getSize() / 2);
-        int playerCenterY = playerRenderer.getY() + (playerRenderer.getSize() / 2);
-
-        int playerTileX = playerCenterX / TILE_SIZE;
-        int playerTileY = playerCenterY / TILE_SIZE;
-
-        return Math.abs(tileX - playerTileX) <= 1 &&
-                Math.abs(tileY - playerTileY) <= 1;
-    }
-
-@Override
-public void execute(String[] args) {
-    boolean harvestedAnything = false;
-    StringBuilder harvestResult = new StringBuilder();
-
-    // Check all tiles
-    for (int i = 0; i < tiles.length; i++) {
-        for (int j = 0; j < tiles[i].length; j++) {
-            if (isInteractable(i, j)) {
-                String result = processTile(tiles[i][j]);
-                if (!result.isEmpty()) {
-                    harvestResult.append(result);
-                    harvestedAnything = true;
-                }
-            }
-        }
+    public HarvestCommand(Simulation simulation, PrintStream out) {
+        this.simulation = simulation;
+        this.out = out;
     }
 
-    if (!harvestedAnything) {
-        harvestResult.append("No crops are ready to harvest in range.\n");
-    }
-
-    JOptionPane.showMessageDialog(null, harvestResult.toString());
-
-    if (harvestedAnything && gamePanel != null) {
-        gamePanel.updateInventoryIfVisible();
-    }
-}
-
     /**
-     * Processes a single tile for harvesting.
-     *
-     * @param tile The tile to process.
-     * @return A string message describing the harvest result, or an empty string if no action occurred.
+     * Harvests the plots within interaction range of the player (3x3 around them),
+     * or around the plot given as "x y" arguments when there is no player on screen.
      */
-    private String processTile(FarmTile tile) {
-        // no crop to harvest
-        if (!tile.hasCrop() || !tile.getCrop().isReadyToHarvest()) {
-            return "";
-        }
-        HarvestItem crop = tile.getCrop();
-        double chance = random.nextDouble();
-
-        // Check harvest success
-        if (chance < 0.5) {
-            tile.setCrop(null);
-            farm.harvestCrop(crop.getName());
-            return crop.getName() + " harvest failed.\n";
-        }
-        // Calculate crop yield
-        int cropYield = calculateYield(chance);
-
-        // Add crop to player's inventory
-        if (player.harvestCrop(crop)) {
-            for (int i = 1; i < cropYield; i++) {
-                player.harvestCrop(crop); // additional harvest
-            }
-            // Clear tile and update farm
-            tile.setCrop(null);
-            farm.harvestCrop(crop.getName());
-
-            return cropYield + " " + crop.getName() + " are harvested and added to inventory.\n";
+    @Override
+    public void execute(String[] args) {
+        int tileX;
+        int tileY;
+        if (args.length >= 2) {
+            tileX = Integer.parseInt(args[0]);
+            tileY = Integer.parseInt(args[1]);
+        } else if (playerRenderer != null) {
+            tileX = (playerRenderer.getX() + (playerRenderer.getSize() / 2)) / TILE_SIZE;
+            tileY = (playerRenderer.getY() + (playerRenderer.getSize() / 2)) / TILE_SIZE;
         } else {
-            return "Inventory is full! Cannot harvest " + crop.getName() + "\n";
+            out.println("Usage: harvest <x> <y>");
+            return;
         }
-    }
 
-    /**
-     * Calculates the crop yield based on a random chance.
-     *
-     * @param chance The random chance value.
-     * @return The number of crops yielded.
-     */
-    private int calculateYield(double chance) {
-        if (chance < 0.7) {
-            return 1;
-        } else if (chance < 0.8) {
-            return 2;
-        } else {
-            return 3;
+        HarvestReport report = simulation.harvestAround(tileX, tileY);
+        if (gamePanel == null) {
+            out.print(report.getMessage());
+            return;
+        }
+        JOptionPane.showMessageDialog(null, report.getMessage());
+        if (!report.isEmpty()) {
+            gamePanel.updateInventoryIfVisible();
         }
     }
-
 }
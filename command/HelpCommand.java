@@ -34,6 +34,9 @@ public class HelpCommand implements Command {
         help.append("• O - Show shop\n");
         help.append("• F - Show farm status\n");
         help.append("• SPACE - Harvest crops\n");
+        help.append("• ESC - Pause or resume the game\n");
+        help.append("• [ / ] - Halve or double the game speed\n");
+        help.append("• N - Skip to the next ripe crop\n");
         help.append("• Q - Quit game\n\n");
         help.append("Game Tips:\n");
         help.append("1. Till the soil before planting\n");
@@ -1,6 +1,5 @@
 package command;
-import domain.item.Item;
-import domain.item.crops.*;
+import domain.item.ItemType;
 import game.tile.FarmTile;
 import domain.Farm;
 import domain.item.HarvestItem;
@@ -8,13 +7,19 @@ import domain.Player;
 import game.ui.GamePanel;
 
 import javax.swing.JOptionPane;
+import java.io.PrintStream;
 
+/**
+ * Plants a crop from the inventory: the selected crop on the clicked tile in the game,
+ * or the crop and plot given as "crop x y" in text mode, where results are printed.
+ */
 public class PlantCommand implements Command {
     private Player player;
     private Farm farm;
     private final FarmTile tile;
     private final String cropType;
     private GamePanel gamePanel;
+    private final PrintStream out; // Where text mode prints its results
 
 
     public PlantCommand(Player player, Farm farm, FarmTile tile, String cropType, GamePanel gamePanel) {
@@ -23,12 +28,29 @@ public class PlantCommand implements Command {
         this.tile = tile;
         this.cropType = cropType;
         this.gamePanel = gamePanel; // GamePanel 초기화
+        this.out = System.out;
 
     }
+
+    /**
+     * Text mode: the crop and plot are given as "plant crop x y".
+     */
+    public PlantCommand(Player player, Farm farm, PrintStream out) {
+        this.player = player;
+        this.farm = farm;
+        this.tile = null;
+        this.cropType = null;
+        this.out = out;
+    }
+
     @Override
     public void execute(String[] args) {
+        if (tile == null) {
+            executeText(args);
+            return;
+        }
         // Step 1: Validate the tile
-        String validationError = validateTile();
+        String validationError = validateTile(tile);
         if (validationError != null) {
             JOptionPane.showMessageDialog(null,
                     validationError,
@@ -38,7 +60,7 @@ public class PlantCommand implements Command {
         }
 
         // Step 2: Find the selected crop in the player's inventory
-        Item selectedItem = getSelectedCropFromInventory();
+        ItemType selectedItem = getSelectedCropFromInventory(cropType);
         if (selectedItem == null) {
             JOptionPane.showMessageDialog(null,
                     "You don't have enough " + cropType + " seeds to plant!",
@@ -48,7 +70,7 @@ public class PlantCommand implements Command {
         }
 
         // Step 3: Create and plant the crop
-        String plantingResult = plantCropOnTile();
+        String plantingResult = plantCropOnTile(tile, cropType);
         if (plantingResult != null) {
             JOptionPane.showMessageDialog(null,
                     plantingResult,
@@ -57,12 +79,38 @@ public class PlantCommand implements Command {
         }
     }
 
+    /**
+     * Same steps as on a clicked tile, with the messages printed.
+     */
+    private void executeText(String[] args) {
+        if (args.length < 3) {
+            out.println("Usage: plant <crop> <x> <y>");
+            return;
+        }
+        String crop = args[0];
+        int x = Integer.parseInt(args[1]);
+        int y = Integer.parseInt(args[2]);
+        if (!farm.contains(x, y)) {
+            out.println("(" + x + ", " + y + ") is outside the farm.");
+            return;
+        }
+        FarmTile target = new FarmTile(farm, x, y);
+        String validationError = validateTile(target);
+        if (validationError != null) {
+            out.println(validationError);
+        } else if (getSelectedCropFromInventory(crop) == null) {
+            out.println("You don't have enough " + crop + " seeds to plant!");
+        } else {
+            out.println(plantCropOnTile(target, crop));
+        }
+    }
+
     /**
      * Validates whether the tile is suitable for planting.
      *
      * @return A validation error message if the tile is invalid; null otherwise.
      */
-    private String validateTile() {
+    private static String validateTile(FarmTile tile) {
         if (!tile.isTilled()) {
             return "Cannot plant here. The tile is not tilled.";
         }
@@ -75,13 +123,11 @@ public class PlantCommand implements Command {
     /**
      * Searches for the selected crop type in the player's inventory.
      *
-     * @return The Item representing the crop seed, or null if not found.
+     * @return The ItemType of the crop seed, or null if none is held.
      */
-    private Item getSelectedCropFromInventory() {
-        return player.getInventory().stream()
-                .filter(item -> item.getName().equalsIgnoreCase(cropType))
-                .findFirst()
-                .orElse(null);
+    private ItemType getSelectedCropFromInventory(String cropType) {
+        ItemType type = ItemType.fromName(cropType);
+        return type != null && player.getItemCount(type) > 0 ? type : null;
     }
 
     /**
@@ -89,7 +135,7 @@ public class PlantCommand implements Command {
      *
      * @return A message indicating the result of the planting.
      */
-    private String plantCropOnTile() {
+    private String plantCropOnTile(FarmTile tile, String cropType) {
         // Create the crop
         HarvestItem crop = createCrop(cropType);
         if (crop == null) {
@@ -101,35 +147,26 @@ public class PlantCommand implements Command {
             return "You don't have enough " + cropType + " seeds to plant!";
         }
 
-        // Plant the crop on the tile
-        tile.setCrop(crop);
-        farm.plantCrop(crop);
-
-        // Update inventory panel
-        if (gamePanel != null && gamePanel.getInventoryPanel() != null) {
-            gamePanel.getInventoryPanel().updateInventory(player.getInventory());
+        // Plant the crop on the farm plot behind the tile
+        if (!farm.plantCrop(tile.getX(), tile.getY(), crop)) {
+            player.addItem(crop.getType(), 1); // Give the seed back
+            return "Cannot plant " + cropType + " here.";
         }
 
         return "Successfully planted " + cropType + "!";
     }
 
 
+    /**
+     * Creates a new crop instance of the given kind from the item registry.
+     *
+     * @return The new crop, or null if the name is not a plantable crop.
+     */
     private HarvestItem createCrop(String cropName) {
-        switch (cropName.toLowerCase()) {
-            case "onion":
-                return new Onion();
-            case "olive":
-                return new Olive();
-            case "tomato":
-                return new Tomato();
-            case "lettuce":
-                return new Lettuce();
-            case "wheat":
-                return new Wheat();
-            case "truffle":
-                return new Truffle();
-            default:
-                return null;
+        ItemType type = ItemType.fromName(cropName);
+        if (type == null || !type.isCrop()) {
+            return null;
         }
+        return (HarvestItem) type.createItem();
     }
 }
\ No newline at end of file
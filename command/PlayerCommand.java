@@ -1,6 +1,8 @@
 package command;
 
+import domain.Inventory;
 import domain.Player;
+import domain.item.ItemType;
 import javax.swing.*;
 import java.awt.*;
 
@@ -42,7 +44,10 @@ public class PlayerCommand implements Command {
 
         // Inventory list
         DefaultListModel<String> inventoryModel = new DefaultListModel<>();
-        player.getInventory().forEach(item -> inventoryModel.addElement(item.toString())); // Add items to inventory list
+        Inventory inventory = player.getInventory();
+        for (ItemType type : inventory.getTypes()) {
+            inventoryModel.addElement(type.getDisplayName() + " x" + inventory.getCount(type)); // Add items to inventory list
+        }
 
         JList<String> inventoryList = new JList<>(inventoryModel);
         JScrollPane scrollPane = new JScrollPane(inventoryList);
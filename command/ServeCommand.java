@@ -0,0 +1,75 @@
+package command;
+
+import domain.Player;
+import domain.item.ItemType;
+import sim.SimCustomer;
+import sim.Simulation;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text mode: "serve id ingredient..." cooks a dish from inventory items and serves it to
+ * the customer with that id, as the ingredient selection panel does in the game.
+ */
+public class ServeCommand implements Command {
+    private final Simulation simulation;
+    private final PrintStream out; // Where the results are printed
+
+    public ServeCommand(Simulation simulation, PrintStream out) {
+        this.simulation = simulation;
+        this.out = out;
+    }
+
+    @Override
+    public void execute(String[] args) {
+        if (args.length < 2) {
+            out.println("Usage: serve <customer> <ingredient>...");
+            return;
+        }
+        SimCustomer customer = findCustomer(Integer.parseInt(args[0]));
+        if (customer == null) {
+            out.println("No customer " + args[0] + " is waiting.");
+            return;
+        }
+
+        // Check the whole dish first, so a missing ingredient uses up nothing
+        Player player = simulation.getPlayer();
+        List<String> ingredients = Arrays.asList(args).subList(1, args.length);
+        Map<ItemType, Integer> dish = new EnumMap<>(ItemType.class);
+        for (String name : ingredients) {
+            ItemType type = ItemType.fromName(name);
+            if (type == null) {
+                out.println("Unknown ingredient: " + name);
+                return;
+            }
+            dish.merge(type, 1, Integer::sum);
+        }
+        for (Map.Entry<ItemType, Integer> entry : dish.entrySet()) {
+            if (player.getItemCount(entry.getKey()) < entry.getValue()) {
+                out.println("Missing ingredient: " + entry.getKey().getDisplayName());
+                return;
+            }
+        }
+        player.batchInventoryChanges(() -> {
+            for (Map.Entry<ItemType, Integer> entry : dish.entrySet()) {
+                player.removeItem(entry.getKey(), entry.getValue());
+            }
+        });
+
+        int reward = simulation.serve(customer, ingredients);
+        out.println("You have earned " + reward + " euros!");
+    }
+
+    private SimCustomer findCustomer(int id) {
+        for (SimCustomer customer : simulation.getCustomers()) {
+            if (customer.getId() == id && !customer.isWalking()) {
+                return customer;
+            }
+        }
+        return null;
+    }
+}
@@ -1,17 +1,58 @@
 package command;
 
+import domain.Farm;
 import game.tile.FarmTile;
 
+import java.io.PrintStream;
+
+/**
+ * Tills a plot: the clicked tile in the game, or the plot given as "x y" in text mode.
+ */
 public class TillCommand implements Command {
     private final FarmTile tile;
+    private final Farm farm;
+    private final PrintStream out; // Where the result is printed
 
     public TillCommand(FarmTile tile) {
         this.tile = tile;
+        this.farm = null;
+        this.out = System.out;
+    }
+
+    /**
+     * Text mode: the plot is given as "till x y".
+     */
+    public TillCommand(Farm farm) {
+        this(farm, System.out);
+    }
+
+    /**
+     * Text mode, printing to the given stream.
+     */
+    public TillCommand(Farm farm, PrintStream out) {
+        this.tile = null;
+        this.farm = farm;
+        this.out = out;
     }
 
     @Override
     public void execute(String[] args) {
-        tile.setTilled(true);
-        System.out.println("Tilled the soil.");
+        if (tile != null) {
+            tile.setTilled(true);
+            out.println("Tilled the soil.");
+            return;
+        }
+        if (args.length < 2) {
+            out.println("Usage: till <x> <y>");
+            return;
+        }
+        int x = Integer.parseInt(args[0]);
+        int y = Integer.parseInt(args[1]);
+        if (!farm.contains(x, y)) {
+            out.println("(" + x + ", " + y + ") is outside the farm.");
+            return;
+        }
+        farm.setTilled(x, y, true);
+        out.println("Tilled the soil.");
     }
-}
\ No newline at end of file
+}
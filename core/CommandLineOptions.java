@@ -0,0 +1,29 @@
+package core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the key=value arguments of the command line tools, e.g. "sessions=1000 seed=1".
+ */
+public final class CommandLineOptions {
+    private CommandLineOptions() {
+    }
+
+    /**
+     * @param args Arguments of the form key=value; a later key overrides an earlier one
+     * @return The values by key
+     * @throws IllegalArgumentException if an argument has no key or no '='
+     */
+    public static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -3,27 +3,35 @@ package core;
 
 import command.Command;
 
+import java.io.PrintStream;
+
 public class CommandProcessor {
     private final CommandRegistry registry;
+    private final PrintStream out; // Where errors and unknown commands are reported
 
     public CommandProcessor(CommandRegistry registry) {
+        this(registry, System.out);
+    }
+
+    public CommandProcessor(CommandRegistry registry, PrintStream out) {
         this.registry = registry;
+        this.out = out;
     }
 
     public void process(String input) {
-        String[] parts = input.split(" ", 2);
+        String[] parts = input.trim().split("\\s+", 2);
         String commandKey = parts[0].toLowerCase();
-        String[] args = parts.length > 1 ? parts[1].split(" ") : new String[0];
+        String[] args = parts.length > 1 ? parts[1].split("\\s+") : new String[0];
 
         Command command = registry.getCommand(commandKey);
         if (command != null) {
             try {
                 command.execute(args);
             } catch (Exception e) {
-                System.out.println("Error: " + e.getMessage());
+                out.println("Error: " + e.getMessage());
             }
         } else {
-            System.out.println("Unknown command. Type 'help' for a list of commands.");
+            out.println("Unknown command. Type 'help' for a list of commands.");
         }
     }
 }
@@ -3,18 +3,22 @@ import command.*;
 import domain.Farm;
 import domain.Player;
 import game.ui.GamePanel;
+import sim.Simulation;
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 
 public class CommandRegistry {
     private final Map<String, Command> commands = new HashMap<>();
+    private Simulation simulation;
     private Player player;
     private Farm farm;
     private GamePanel gamePanel;
 
-    public CommandRegistry(Player player, Farm farm) {
-        this.player = player;
-        this.farm = farm;
+    public CommandRegistry(Simulation simulation) {
+        this.simulation = simulation;
+        this.player = simulation.getPlayer();
+        this.farm = simulation.getFarm();
     }
 
     public void register(String name, Command command) {
@@ -26,15 +30,46 @@ public class CommandRegistry {
     }
 
     public void registerDefaults() {
-        register("till", new TillCommand(null));
+        register("till", new TillCommand(farm));
         register("plant", new PlantCommand(player, farm, null, null, gamePanel));
         register("help", new HelpCommand());
         register("player", new PlayerCommand(player));
         register("farm", new FarmCommand(farm));
-        register("harvest", new HarvestCommand(player, farm, null, null, null));
+        register("harvest", new HarvestCommand(simulation, null, null));
         register("quit", exit -> {
             System.out.println("Exiting game... Goodbye!");
             System.exit(0);
         });
     }
+
+    /**
+     * Registers the commands of a text session, which has no window: plots are given
+     * as "x y" arguments and every result is printed to the session's stream.
+     * @param out    Where the commands print
+     * @param onQuit Ends the session when the player types "quit"
+     */
+    public void registerTextDefaults(PrintStream out, Runnable onQuit) {
+        register("till", new TillCommand(farm, out));
+        register("plant", new PlantCommand(player, farm, out));
+        register("harvest", new HarvestCommand(simulation, out));
+        register("buy", new BuyCommand(player, out));
+        register("customers", new CustomersCommand(simulation, out));
+        register("serve", new ServeCommand(simulation, out));
+        register("farm", new FarmCommand(farm, out));
+        register("player", status -> player.printInventory(out));
+        register("help", help -> {
+            out.println("Commands:");
+            out.println("  till <x> <y>                       Till a plot");
+            out.println("  plant <crop> <x> <y>               Plant a crop from the inventory");
+            out.println("  harvest <x> <y>                    Harvest ripe crops around a plot");
+            out.println("  buy <item> [quantity]              Buy from the shop");
+            out.println("  customers                          List waiting customers and their orders");
+            out.println("  serve <customer> <ingredient>...   Serve a dish");
+            out.println("  farm | player | help | quit");
+        });
+        register("quit", exit -> {
+            out.println("Exiting game... Goodbye!");
+            onQuit.run();
+        });
+    }
 }
@@ -0,0 +1,20 @@
+package core;
+
+/**
+ * Source of game time. Everything that measures growth or waiting time reads this
+ * instead of the system clock, so the simulation can run in real time, faster or
+ * slower than real time, paused, or stepped by hand in headless runs.
+ */
+public interface GameClock {
+    /**
+     * @return the current game time in milliseconds.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Returns the shared clock that follows the system time.
+     */
+    static GameClock system() {
+        return RealTimeClock.INSTANCE;
+    }
+}
@@ -0,0 +1,70 @@
+package core;
+
+import sim.Simulation;
+
+import java.io.PrintStream;
+
+/**
+ * One player's game in text mode: a simulation with its own command registry and processor,
+ * printing to its own stream. Game time follows real time; before each command the simulation
+ * catches up on the time since the previous one, so an idle session costs nothing while idle.
+ * Catching up jumps from one customer arrival or walkout to the next (see
+ * {@link Simulation#fastForward}), so it costs a few ticks per customer, not one per frame.
+ * <p>
+ * A session shares no state with other sessions and is used by one thread at a time,
+ * the one serving its player.
+ */
+public class GameSession {
+    private final int id;
+    private final Simulation simulation;
+    private final CommandProcessor processor;
+    private final PrintStream out;
+    private long lastUpdateNanos; // Real time the simulation has caught up to
+    private boolean open = true;
+
+    /**
+     * @param id   Number of the session, shown to the player
+     * @param seed Session seed of every random choice in the game
+     * @param out  Where the session prints its output
+     */
+    public GameSession(int id, long seed, PrintStream out) {
+        this.id = id;
+        this.simulation = new Simulation(seed);
+        this.out = out;
+        CommandRegistry registry = new CommandRegistry(simulation);
+        registry.registerTextDefaults(out, () -> open = false);
+        this.processor = new CommandProcessor(registry, out);
+        this.lastUpdateNanos = System.nanoTime();
+    }
+
+    /**
+     * Prints the welcome message.
+     */
+    public void greet() {
+        out.println("Welcome to Game! Session " + id + ", seed " + simulation.getRng().getSeed() + ".");
+        out.println("Type 'help' for a list of commands or 'quit' to exit.");
+        out.flush();
+    }
+
+    /**
+     * Catches the game up to real time, then runs one command line, printing its result
+     * to the session's stream.
+     * @return false once the player has quit
+     */
+    public boolean handle(String line) {
+        catchUp();
+        processor.process(line);
+        out.flush();
+        return open;
+    }
+
+    private void catchUp() {
+        long now = System.nanoTime();
+        simulation.fastForward((now - lastUpdateNanos) / 1e6);
+        lastUpdateNanos = now;
+    }
+
+    public int getId() { return id; }
+    public Simulation getSimulation() { return simulation; }
+    public boolean isOpen() { return open; }
+}
@@ -0,0 +1,37 @@
+package core;
+
+/**
+ * Game clock that only moves when told to. Used by headless runs and benchmarks
+ * to step the simulation as fast as the CPU allows.
+ */
+public class ManualClock implements GameClock {
+    private volatile long now;
+
+    public ManualClock() {
+        this(0);
+    }
+
+    public ManualClock(long startMillis) {
+        this.now = startMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward.
+     * @param millis Milliseconds to advance; must not be negative
+     */
+    public synchronized void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move a clock backwards: " + millis);
+        }
+        now += millis;
+    }
+
+    public synchronized void setTime(long millis) {
+        now = millis;
+    }
+}
@@ -0,0 +1,16 @@
+package core;
+
+/**
+ * Game clock that follows the system time.
+ */
+public final class RealTimeClock implements GameClock {
+    static final RealTimeClock INSTANCE = new RealTimeClock();
+
+    private RealTimeClock() {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,71 @@
+package core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Every random choice of one game session, derived from a single session seed. Each subsystem
+ * draws from its own stream, split once from the seed, so the same seed replays the same game
+ * and a subsystem drawing more or fewer numbers never shifts the choices of another one.
+ * <p>
+ * Streams are created once and reused; drawing allocates nothing. A stream is not thread-safe:
+ * it belongs to the subsystem named by its {@link Stream}, which draws from it on one thread at a time.
+ */
+public class RngService {
+    public static final String SEED_PROPERTY = "game.seed"; // System property that replays a session
+
+    /**
+     * The subsystems that make random choices. Streams are split in declaration order,
+     * so new subsystems go at the end to keep existing seeds replaying the same games.
+     */
+    public enum Stream {
+        CUSTOMERS,  // Where customers arrive
+        ORDERS,     // What customers order
+        HARVEST,    // Harvest success and yield
+        APPEARANCE  // How customers look; drawn in the simulation so headless runs stay in step
+    }
+
+    private final long seed;
+    private final SplittableRandom[] streams = new SplittableRandom[Stream.values().length];
+
+    /**
+     * @param seed Session seed; the same seed gives the same streams
+     */
+    public RngService(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams[stream.ordinal()] = root.split();
+        }
+    }
+
+    /**
+     * Seed for a new interactive session: the {@value #SEED_PROPERTY} system property if set,
+     * so a reported session can be replayed, otherwise a fresh seed.
+     */
+    public static long newSessionSeed() {
+        return Long.getLong(SEED_PROPERTY, System.nanoTime());
+    }
+
+    /**
+     * Seed of one of many sessions started from the same base seed, e.g. in a batch or on a server:
+     * the SplitMix64 finalizer over the two, so neighbouring sessions get unrelated seeds.
+     * @param index Number of the session, from 0
+     */
+    public static long deriveSeed(long baseSeed, int index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return The generator of a subsystem, the same instance on every call
+     */
+    public SplittableRandom stream(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,83 @@
+package core;
+
+/**
+ * Game clock that runs at a multiple of another clock's speed, and can be paused or
+ * fast-forwarded. A speed of 100 makes a 600 second Truffle ripen in 6 real seconds.
+ */
+public class ScaledClock implements GameClock {
+    private final GameClock source;
+    private double speed;
+    private boolean paused;
+    private long anchorSource; // Source time at the last speed/pause change
+    private long anchorGame;   // Game time at the last speed/pause change
+
+    public ScaledClock(double speed) {
+        this(GameClock.system(), speed);
+    }
+
+    public ScaledClock(GameClock source, double speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Clock speed must not be negative: " + speed);
+        }
+        this.source = source;
+        this.speed = speed;
+        this.anchorSource = source.currentTimeMillis();
+        this.anchorGame = anchorSource;
+    }
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        if (paused) {
+            return anchorGame;
+        }
+        return anchorGame + (long) ((source.currentTimeMillis() - anchorSource) * speed);
+    }
+
+    /**
+     * Changes the speed multiplier from now on; time already elapsed is kept.
+     */
+    public synchronized void setSpeed(double speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Clock speed must not be negative: " + speed);
+        }
+        rebase();
+        this.speed = speed;
+    }
+
+    public synchronized void pause() {
+        if (!paused) {
+            rebase();
+            paused = true;
+        }
+    }
+
+    public synchronized void resume() {
+        if (paused) {
+            anchorSource = source.currentTimeMillis();
+            paused = false;
+        }
+    }
+
+    /**
+     * Jumps the game time forward, e.g. to skip a long growth period.
+     * @param millis Game time to skip, in milliseconds
+     */
+    public synchronized void fastForward(long millis) {
+        rebase();
+        anchorGame += millis;
+    }
+
+    /**
+     * Moves the anchors to the present so the next speed or pause change starts from here.
+     */
+    private void rebase() {
+        long now = source.currentTimeMillis();
+        if (!paused) {
+            anchorGame += (long) ((now - anchorSource) * speed);
+        }
+        anchorSource = now;
+    }
+
+    public synchronized double getSpeed() { return speed; }
+    public synchronized boolean isPaused() { return paused; }
+}
@@ -1,76 +1,456 @@
 package domain;
 
+import core.GameClock;
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a farm where crops can be planted and harvested.
- * Manages the crops in plots and their lifecycle.
+ * Plots are addressed by (x, y) and stored in fixed-size {@link FarmChunk}s that are
+ * allocated on first write, so memory grows with the plots in use, not the farm size.
+ * Tilling, planting and harvesting a plot cost O(1); per-type crop counts are kept
+ * per chunk, so queries by crop type skip chunks that do not hold that type.
+ * Planted crops are scheduled by ripening time; {@link #update()} moves crops that
+ * ripened into a ready set and fires one "crop ready" event per crop.
+ * Every method that reads or writes plot state is synchronized on the farm: the game
+ * loop thread updates and draws the farm while commands issued from the event dispatch
+ * thread till, plant and harvest it. Visitors run while the lock is held, so a frame
+ * sees the plots it draws in one consistent state; they must not block on another thread.
  */
 public class Farm {
-    private List<HarvestItem> crops = new ArrayList<>();
-    private final int plotCount = 48;
+    public static final int DEFAULT_WIDTH = 8;
+    public static final int DEFAULT_HEIGHT = 6;
+
+    private final int width;
+    private final int height;
+    private final GameClock clock;        // Clock used to measure crop growth
+    private final int chunksX;
+    private final int chunksY;
+    private final FarmChunk[] chunks;     // Chunk grid, null until a plot in the chunk is written
+    private final int[] cropCounts = new int[ItemType.values().length]; // Crops per type
+    private int cropCount;
+    private int allocatedChunks;
+    private long plantings;               // Crops planted so far; numbers each planting
+    private final RipeningScheduler scheduler = new RipeningScheduler();
+    private final Set<Long> readyPlots = new LinkedHashSet<>(); // Packed coordinates of ripe crops
+    private final List<CropReadyListener> cropReadyListeners = new CopyOnWriteArrayList<>();
+    private final List<PlotChangeListener> plotChangeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Receives the coordinates of a plot.
+     */
+    public interface PlotVisitor {
+        void visit(int x, int y);
+    }
+
+    /**
+     * Notified exactly once per planted crop, when it becomes ready to harvest.
+     */
+    public interface CropReadyListener {
+        void cropReady(int x, int y, ItemType type);
+    }
+
+    /**
+     * Notified when a plot is tilled or untilled, or a crop is planted on or removed from it.
+     */
+    public interface PlotChangeListener {
+        void plotChanged(int x, int y);
+    }
+
+    public Farm() {
+        this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    public Farm(int width, int height) {
+        this(width, height, GameClock.system());
+    }
+
+    public Farm(int width, int height, GameClock clock) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Farm size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.clock = clock;
+        this.chunksX = (width + FarmChunk.MASK) >> FarmChunk.SHIFT;
+        this.chunksY = (height + FarmChunk.MASK) >> FarmChunk.SHIFT;
+        this.chunks = new FarmChunk[Math.multiplyExact(chunksX, chunksY)];
+    }
+
+    /**
+     * Checks whether (x, y) is a plot of this farm.
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int chunkIndex(int x, int y) {
+        if (!contains(x, y)) {
+            throw new IndexOutOfBoundsException("No plot at (" + x + ", " + y + ")");
+        }
+        return (y >> FarmChunk.SHIFT) * chunksX + (x >> FarmChunk.SHIFT);
+    }
+
+    /**
+     * Returns the chunk holding (x, y), or null if nothing was written there yet.
+     */
+    private FarmChunk chunkAt(int x, int y) {
+        return chunks[chunkIndex(x, y)];
+    }
+
+    private FarmChunk chunkForWrite(int x, int y) {
+        int index = chunkIndex(x, y);
+        FarmChunk chunk = chunks[index];
+        if (chunk == null) {
+            chunk = new FarmChunk();
+            chunks[index] = chunk;
+            allocatedChunks++;
+        }
+        return chunk;
+    }
+
+    /**
+     * Drops a chunk that no longer holds any tilled plot or crop.
+     */
+    private void releaseIfEmpty(int x, int y, FarmChunk chunk) {
+        if (chunk.isEmpty()) {
+            chunks[chunkIndex(x, y)] = null;
+            allocatedChunks--;
+        }
+    }
+
+    public synchronized boolean isTilled(int x, int y) {
+        FarmChunk chunk = chunkAt(x, y);
+        return chunk != null && chunk.isTilled(FarmChunk.localIndex(x, y));
+    }
+
+    /**
+     * Sets the tilled state of a plot. A plot holding a crop cannot be untilled.
+     * @return true if the state was applied
+     */
+    public synchronized boolean setTilled(int x, int y, boolean isTilled) {
+        if (!isTilled) {
+            FarmChunk chunk = chunkAt(x, y);
+            if (chunk == null) {
+                return true;
+            }
+            int local = FarmChunk.localIndex(x, y);
+            if (chunk.getCropType(local) != null) {
+                return false;
+            }
+            if (chunk.isTilled(local)) {
+                chunk.setTilled(local, false);
+                releaseIfEmpty(x, y, chunk);
+                firePlotChanged(x, y);
+            }
+            return true;
+        }
+        if (!isTilled(x, y)) {
+            chunkForWrite(x, y).setTilled(FarmChunk.localIndex(x, y), true);
+            firePlotChanged(x, y);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the kind of crop growing on a plot, or null if it is empty.
+     */
+    public synchronized ItemType getCropType(int x, int y) {
+        FarmChunk chunk = chunkAt(x, y);
+        return chunk == null ? null : chunk.getCropType(FarmChunk.localIndex(x, y));
+    }
+
+    public synchronized boolean hasCrop(int x, int y) {
+        return getCropType(x, y) != null;
+    }
+
+    /**
+     * Returns the time the crop on a plot was planted, or -1 if the plot is empty.
+     */
+    public synchronized long getPlantedTimestamp(int x, int y) {
+        FarmChunk chunk = chunkAt(x, y);
+        if (chunk == null) {
+            return -1;
+        }
+        int local = FarmChunk.localIndex(x, y);
+        return chunk.getCropType(local) == null ? -1 : chunk.plantedAt[local];
+    }
+
+    /**
+     * Returns the growth progress of the crop on a plot as a percentage (0 if empty).
+     */
+    public synchronized int getGrowthProgress(int x, int y) {
+        ItemType type = getCropType(x, y);
+        if (type == null) {
+            return 0;
+        }
+        int elapsed = elapsedSeconds(getPlantedTimestamp(x, y));
+        return (int) ((double) elapsed / type.getGrowthTime() * 100);
+    }
+
+    public synchronized boolean isReadyToHarvest(int x, int y) {
+        ItemType type = getCropType(x, y);
+        return type != null && elapsedSeconds(getPlantedTimestamp(x, y)) >= type.getGrowthTime();
+    }
+
+    private int elapsedSeconds(long plantedTimestamp) {
+        return (int) ((clock.currentTimeMillis() - plantedTimestamp) / 1000);
+    }
+
+    /**
+     * Returns a crop item describing the plot's crop.
+     * The item is a snapshot built from the plot store; changing it does not change the farm.
+     *
+     * @return The crop, or null if the plot is empty
+     */
+    public synchronized HarvestItem getCrop(int x, int y) {
+        ItemType type = getCropType(x, y);
+        if (type == null) {
+            return null;
+        }
+        HarvestItem crop = (HarvestItem) type.createItem();
+        crop.setClock(clock);
+        crop.plant(getPlantedTimestamp(x, y));
+        return crop;
+    }
 
     /**
-     * Plants a crop in an available plot.
-     * If no plots are available, the operation fails with a message.
+     * Plants a crop on a tilled, empty plot.
+     * If the plot is not tilled or already holds a crop, nothing is planted.
      *
+     * @param x    Plot column
+     * @param y    Plot row
      * @param crop The crop to be planted
+     * @return true if the crop was planted
      */
-    public void plantCrop(HarvestItem crop) {
-        if (crops.size() < plotCount) {
-            crop.plant();
-            crops.add(crop);
-            System.out.println(crop.getName() + " has been planted.");
-        } else {
-            System.out.println("No available plots.");
+    public synchronized boolean plantCrop(int x, int y, HarvestItem crop) {
+        FarmChunk chunk = chunkAt(x, y);
+        int local = FarmChunk.localIndex(x, y);
+        if (chunk == null || !chunk.isTilled(local) || chunk.getCropType(local) != null) {
+            return false;
         }
+        crop.setClock(clock);
+        crop.plant();
+        long plantedAt = crop.getPlantedTimestamp();
+        long planting = ++plantings;
+        chunk.setCrop(local, crop.getType(), plantedAt, planting);
+        cropCounts[crop.getType().ordinal()]++;
+        cropCount++;
+        scheduler.schedule(x, y, planting, plantedAt + crop.getType().getGrowthTime() * 1000L);
+        firePlotChanged(x, y);
+        return true;
     }
 
     /**
-     * Harvests a crop by its name if it is ready to be harvested.
+     * Harvests the crop on a plot if it is ready to be harvested.
      * The crop is removed from the farm upon successful harvest.
      *
-     * @param cropName The name of the crop to harvest
-     * @return The harvested crop, or null if the crop is not ready or not found
-     */
-    public HarvestItem harvestCrop(String cropName) {
-        for (HarvestItem crop : crops) {
-            if (crop.getName().equalsIgnoreCase(cropName)) {
-                if (crop.isReadyToHarvest()) {
-                    crops.remove(crop);
-                    return crop;
-                } else {
-                    return null;
+     * @return The harvested crop, or null if the plot is empty or the crop is not ready
+     */
+    public synchronized HarvestItem harvestCrop(int x, int y) {
+        if (!isReadyToHarvest(x, y)) {
+            return null;
+        }
+        return removeCrop(x, y);
+    }
+
+    /**
+     * Removes the crop on a plot whether or not it is ripe (e.g. a failed harvest).
+     *
+     * @return The removed crop, or null if the plot was empty
+     */
+    public synchronized HarvestItem removeCrop(int x, int y) {
+        HarvestItem crop = getCrop(x, y);
+        if (crop == null) {
+            return null;
+        }
+        FarmChunk chunk = chunkAt(x, y);
+        chunk.clearCrop(FarmChunk.localIndex(x, y));
+        cropCounts[crop.getType().ordinal()]--;
+        cropCount--;
+        readyPlots.remove(pack(x, y));
+        releaseIfEmpty(x, y, chunk);
+        firePlotChanged(x, y);
+        return crop;
+    }
+
+    /**
+     * Moves every crop that has ripened since the last update into the ready set and
+     * notifies the listeners. Costs O(log n) per ripened crop and O(1) when none is due.
+     */
+    public synchronized void update() {
+        long now = clock.currentTimeMillis();
+        RipeningScheduler.Entry entry;
+        while ((entry = scheduler.pollDue(now)) != null) {
+            // Skip entries of crops that were removed, or replaced by a new planting
+            FarmChunk chunk = chunkAt(entry.x, entry.y);
+            int local = FarmChunk.localIndex(entry.x, entry.y);
+            ItemType type = chunk == null ? null : chunk.getCropType(local);
+            if (type == null || chunk.planting[local] != entry.planting) {
+                continue;
+            }
+            if (readyPlots.add(pack(entry.x, entry.y))) {
+                for (CropReadyListener listener : cropReadyListeners) {
+                    listener.cropReady(entry.x, entry.y, type);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every plot whose crop is ready to harvest. Costs O(number of ripe crops).
+     * The visitor may harvest or remove the visited crop.
+     */
+    public synchronized void forEachReadyPlot(PlotVisitor visitor) {
+        update();
+        for (long plot : new ArrayList<>(readyPlots)) {
+            visitor.visit(unpackX(plot), unpackY(plot));
+        }
+    }
+
+    public synchronized int getReadyCount() {
+        update();
+        return readyPlots.size();
+    }
+
+    /**
+     * @return the time in milliseconds at which the next crop ripens, or Long.MAX_VALUE if none is growing.
+     */
+    public synchronized long getNextRipeTime() {
+        return scheduler.nextRipeTime();
+    }
+
+    public void addCropReadyListener(CropReadyListener listener) {
+        cropReadyListeners.add(listener);
+    }
+
+    public void removeCropReadyListener(CropReadyListener listener) {
+        cropReadyListeners.remove(listener);
+    }
+
+    public void addPlotChangeListener(PlotChangeListener listener) {
+        plotChangeListeners.add(listener);
+    }
+
+    public void removePlotChangeListener(PlotChangeListener listener) {
+        plotChangeListeners.remove(listener);
+    }
+
+    private void firePlotChanged(int x, int y) {
+        for (PlotChangeListener listener : plotChangeListeners) {
+            listener.plotChanged(x, y);
+        }
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(long plot) {
+        return (int) (plot >>> 32);
+    }
+
+    private static int unpackY(long plot) {
+        return (int) plot;
+    }
+
+    /**
+     * Visits every plot holding a crop inside the given rectangle (bounds inclusive,
+     * clamped to the farm). Chunks that were never written are skipped entirely.
+     * The farm stays locked while the visitor runs.
+     */
+    public synchronized void forEachCropIn(int minX, int minY, int maxX, int maxY, PlotVisitor visitor) {
+        int x0 = Math.max(0, minX);
+        int y0 = Math.max(0, minY);
+        int x1 = Math.min(width - 1, maxX);
+        int y1 = Math.min(height - 1, maxY);
+        if (x0 > x1 || y0 > y1) {
+            return;
+        }
+        for (int cy = y0 >> FarmChunk.SHIFT; cy <= y1 >> FarmChunk.SHIFT; cy++) {
+            for (int cx = x0 >> FarmChunk.SHIFT; cx <= x1 >> FarmChunk.SHIFT; cx++) {
+                FarmChunk chunk = chunks[cy * chunksX + cx];
+                if (chunk == null || chunk.cropCount == 0) {
+                    continue;
+                }
+                visitChunk(chunk, cx, cy, x0, y0, x1, y1, null, visitor);
+            }
+        }
+    }
+
+    /**
+     * Visits every plot where the given kind of crop grows.
+     * Chunks without that crop type are skipped using their per-type counts.
+     */
+    public synchronized void forEachCropOf(ItemType type, PlotVisitor visitor) {
+        if (cropCounts[type.ordinal()] == 0) {
+            return;
+        }
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                FarmChunk chunk = chunks[cy * chunksX + cx];
+                if (chunk == null || chunk.typeCounts[type.ordinal()] == 0) {
+                    continue;
                 }
+                visitChunk(chunk, cx, cy, 0, 0, width - 1, height - 1, type, visitor);
             }
         }
-        System.out.println("No crop with the name " + cropName + " is planted.");
-        return null;
     }
 
+    private void visitChunk(FarmChunk chunk, int cx, int cy, int x0, int y0, int x1, int y1,
+                            ItemType type, PlotVisitor visitor) {
+        int baseX = cx << FarmChunk.SHIFT;
+        int baseY = cy << FarmChunk.SHIFT;
+        for (int local = 0; local < FarmChunk.AREA; local++) {
+            ItemType plotType = chunk.getCropType(local);
+            if (plotType == null || (type != null && plotType != type)) {
+                continue;
+            }
+            int x = baseX + (local & FarmChunk.MASK);
+            int y = baseY + (local >> FarmChunk.SHIFT);
+            if (x >= x0 && x <= x1 && y >= y0 && y <= y1) {
+                visitor.visit(x, y);
+            }
+        }
+    }
 
     /**
      * Retrieves all crops that are ready to be harvested.
      *
      * @return A list of crops that can be harvested
      */
-    public List<HarvestItem> getReadyToHarvestCrops() {
-        List<HarvestItem> readyCrops = new ArrayList<>();
-        for (HarvestItem crop : crops) {
-            if (crop.isReadyToHarvest()) {
-                readyCrops.add(crop);
-            }
-        }
+    public synchronized List<HarvestItem> getReadyToHarvestCrops() {
+        List<HarvestItem> readyCrops = new ArrayList<>(readyPlots.size());
+        forEachReadyPlot((x, y) -> readyCrops.add(getCrop(x, y)));
         return readyCrops;
     }
 
-    public int getRemainingPlots() {
-        return plotCount - crops.size();
+    /**
+     * Returns the planted crops in chunk order.
+     */
+    public synchronized List<HarvestItem> getCrops() {
+        List<HarvestItem> planted = new ArrayList<>(cropCount);
+        forEachCropIn(0, 0, width - 1, height - 1, (x, y) -> planted.add(getCrop(x, y)));
+        return planted;
+    }
+
+    public synchronized int getCropCount(ItemType type) {
+        return cropCounts[type.ordinal()];
     }
 
-    public List<HarvestItem> getCrops() {
-        return crops;
+    public synchronized long getRemainingPlots() {
+        return getPlotCount() - cropCount;
     }
+
+    public GameClock getClock() { return clock; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public long getPlotCount() { return (long) width * height; }
+    public synchronized int getCropCount() { return cropCount; }
+    public synchronized int getAllocatedChunkCount() { return allocatedChunks; }
 }
@@ -0,0 +1,81 @@
+package domain;
+
+import domain.item.ItemType;
+
+/**
+ * Fixed-size square block of farm plots, stored as parallel arrays
+ * (struct of arrays) instead of one object per plot.
+ * Chunks are created by {@link Farm} on first write and dropped again once empty.
+ */
+final class FarmChunk {
+    static final int SHIFT = 4;
+    static final int SIZE = 1 << SHIFT;   // Plots per chunk side
+    static final int MASK = SIZE - 1;
+    static final int AREA = SIZE * SIZE;
+    static final byte NO_CROP = 0;
+    private static final ItemType[] TYPES = ItemType.values();
+
+    final long[] tilled = new long[AREA / Long.SIZE];  // One bit per plot
+    final byte[] cropType = new byte[AREA];            // ItemType ordinal + 1, or NO_CROP
+    final long[] plantedAt = new long[AREA];           // Planting time in milliseconds
+    final long[] planting = new long[AREA];            // Farm-wide planting number of the crop
+    final int[] typeCounts = new int[TYPES.length]; // Crops per type in this chunk
+    int tilledCount;
+    int cropCount;
+
+    /**
+     * Index of a plot inside its chunk, from farm coordinates.
+     */
+    static int localIndex(int x, int y) {
+        return ((y & MASK) << SHIFT) | (x & MASK);
+    }
+
+    boolean isTilled(int index) {
+        return (tilled[index >>> 6] & (1L << index)) != 0;
+    }
+
+    void setTilled(int index, boolean isTilled) {
+        if (isTilled(index) == isTilled) {
+            return;
+        }
+        if (isTilled) {
+            tilled[index >>> 6] |= 1L << index;
+            tilledCount++;
+        } else {
+            tilled[index >>> 6] &= ~(1L << index);
+            tilledCount--;
+        }
+    }
+
+    /**
+     * Returns the crop type on a plot, or null if it is empty.
+     */
+    ItemType getCropType(int index) {
+        byte code = cropType[index];
+        return code == NO_CROP ? null : TYPES[code - 1];
+    }
+
+    void setCrop(int index, ItemType type, long timestamp, long plantingNumber) {
+        cropType[index] = (byte) (type.ordinal() + 1);
+        plantedAt[index] = timestamp;
+        planting[index] = plantingNumber;
+        typeCounts[type.ordinal()]++;
+        cropCount++;
+    }
+
+    void clearCrop(int index) {
+        ItemType type = getCropType(index);
+        if (type == null) {
+            return;
+        }
+        cropType[index] = NO_CROP;
+        plantedAt[index] = 0;
+        planting[index] = 0;
+        typeCounts[type.ordinal()]--;
+        cropCount--;
+    }
+
+    boolean isEmpty() {
+        return tilledCount == 0 && cropCount == 0;
+    }
+}
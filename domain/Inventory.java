@@ -0,0 +1,99 @@
+package domain;
+
+import domain.item.ItemType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counted multiset of items, stored as one count per {@link ItemType}.
+ * Counting, adding and removing any quantity of an item costs constant time.
+ * Capacity is measured in distinct stacks (item types held), not in single items.
+ * Only {@link Player} mutates an inventory; everyone else gets a read-only view.
+ */
+public class Inventory {
+    private static final ItemType[] TYPES = ItemType.values();
+
+    private final int[] counts = new int[TYPES.length]; // Count per item type, indexed by ordinal
+    private final int maxStacks;
+    private int stackCount;                             // Number of types with a non-zero count
+    private long totalCount;                            // Number of single items held
+
+    public Inventory(int maxStacks) {
+        this.maxStacks = maxStacks;
+    }
+
+    /**
+     * Checks whether n more items of the given type would fit.
+     * @param type Item type to add
+     * @param n    Number of items to add
+     * @return true if the items fit, false if a new stack would exceed the capacity
+     */
+    public boolean canAdd(ItemType type, int n) {
+        if (n < 0 || counts[type.ordinal()] > Integer.MAX_VALUE - n) {
+            return false;
+        }
+        return n == 0 || counts[type.ordinal()] > 0 || stackCount < maxStacks;
+    }
+
+    /**
+     * Adds n items of the given type.
+     * @return true if added, false if a new stack would exceed the capacity
+     */
+    boolean add(ItemType type, int n) {
+        if (!canAdd(type, n)) {
+            return false;
+        }
+        int index = type.ordinal();
+        if (counts[index] == 0 && n > 0) {
+            stackCount++;
+        }
+        counts[index] += n;
+        totalCount += n;
+        return true;
+    }
+
+    /**
+     * Removes n items of the given type.
+     * @return true if removed, false if fewer than n items are held
+     */
+    boolean remove(ItemType type, int n) {
+        int index = type.ordinal();
+        if (n < 0 || counts[index] < n) {
+            return false;
+        }
+        counts[index] -= n;
+        totalCount -= n;
+        if (counts[index] == 0 && n > 0) {
+            stackCount--;
+        }
+        return true;
+    }
+
+    public int getCount(ItemType type) {
+        return counts[type.ordinal()];
+    }
+
+    public boolean contains(ItemType type) {
+        return counts[type.ordinal()] > 0;
+    }
+
+    /**
+     * Returns the item types currently held, in registry order.
+     */
+    public List<ItemType> getTypes() {
+        List<ItemType> types = new ArrayList<>(stackCount);
+        for (ItemType type : TYPES) {
+            if (counts[type.ordinal()] > 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    public int getStackCount() { return stackCount; }
+    public int getMaxStacks() { return maxStacks; }
+    public long getTotalCount() { return totalCount; }
+    public boolean isEmpty() { return stackCount == 0; }
+    public boolean isFull() { return stackCount >= maxStacks; }
+}
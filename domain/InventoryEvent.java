@@ -0,0 +1,57 @@
+package domain;
+
+import domain.item.ItemType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes what changed in an inventory: one delta per item type whose count changed.
+ * A batch of mutations is coalesced into a single event with at most one delta per type.
+ */
+public class InventoryEvent {
+    private final List<Change> changes;
+
+    public InventoryEvent(List<Change> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryEvent" + changes;
+    }
+
+    /**
+     * The count of one item type before and after the change.
+     */
+    public static final class Change {
+        private final ItemType type;
+        private final int oldCount;
+        private final int newCount;
+
+        public Change(ItemType type, int oldCount, int newCount) {
+            this.type = type;
+            this.oldCount = oldCount;
+            this.newCount = newCount;
+        }
+
+        public ItemType getType() { return type; }
+        public int getOldCount() { return oldCount; }
+        public int getNewCount() { return newCount; }
+        public boolean isStackAdded() { return oldCount == 0 && newCount > 0; }
+        public boolean isStackRemoved() { return oldCount > 0 && newCount == 0; }
+
+        @Override
+        public String toString() {
+            return type.getDisplayName() + ": " + oldCount + " -> " + newCount;
+        }
+    }
+}
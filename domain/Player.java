@@ -2,31 +2,39 @@ package domain;
 
 import domain.item.HarvestItem;
 import domain.item.Item;
-import domain.item.crops.Onion;
-import domain.item.crops.Tomato;
-import game.entity.NormalCustomer;
+import domain.item.ItemType;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
  * Represents a player with money, inventory, and various actions like planting, harvesting, and selling items.
  */
 public class Player {
-    private double money; // Current money the player has
-    private List<Item> inventory; // Player's inventory
-    private static final int MAX_INVENTORY_SIZE = 25;
-    private final List<Consumer<List<Item>>> inventoryChangeListeners; // Listeners for inventory changes
+    private volatile double money; // Current money the player has; changed on the EDT, read by the render thread
+    private final Inventory inventory; // Player's inventory, counted per item type
+    private static final int MAX_INVENTORY_SIZE = 25; // Maximum number of distinct stacks
+    private final List<Consumer<InventoryEvent>> inventoryChangeListeners; // Listeners for inventory changes
+    private final int[] pendingOldCounts; // Count of each type before the pending event, -1 if unchanged
+    private final List<ItemType> pendingTypes; // Types changed since the last event, in change order
+    private int batchDepth; // Nesting depth of batchInventoryChanges calls
 
     public Player(double initialMoney) {
         this.money = initialMoney;
-        this.inventory = new ArrayList<>();
-        this.inventoryChangeListeners = new ArrayList<>();
+        this.inventory = new Inventory(MAX_INVENTORY_SIZE);
+        this.inventoryChangeListeners = new CopyOnWriteArrayList<>();
+        this.pendingOldCounts = new int[ItemType.values().length];
+        this.pendingTypes = new ArrayList<>();
+        Arrays.fill(pendingOldCounts, -1);
 
         // Set default inventory with initial items
-        addItem(new Onion());
-        addItem(new Tomato());
+        addItem(ItemType.ONION, 1);
+        addItem(ItemType.TOMATO, 1);
     }
 
     // Money management methods
@@ -48,83 +56,114 @@ public class Player {
     }
 
     // Inventory management methods
-    public List<Item> getInventory() {
-        return new ArrayList<>(inventory);
+
+    /**
+     * Returns a read-only view of the inventory.
+     */
+    public Inventory getInventory() {
+        return inventory;
     }
 
     public boolean addItem(Item item) {
-        if (inventory.size() >= MAX_INVENTORY_SIZE) {
-            System.out.println("Inventory is full! Cannot add more items.");
+        return addItem(item.getType(), 1);
+    }
+
+    /**
+     * Adds a quantity of one item type in a single step.
+     * @param type     Item type to add
+     * @param quantity Number of items to add
+     * @return true if added, false if the inventory has no free stack for a new type
+     */
+    public boolean addItem(ItemType type, int quantity) {
+        int oldCount = inventory.getCount(type);
+        if (!inventory.add(type, quantity)) {
             return false;
         }
-        inventory.add(item);
+        recordChange(type, oldCount);
         notifyInventoryChange();
         return true;
     }
 
     public boolean removeItem(String itemName) {
-        for (Item inventoryItem : inventory) {
-            if (inventoryItem.getName().equalsIgnoreCase(itemName)) {
-                inventory.remove(inventoryItem);
-                System.out.println("Successfully removed: " + itemName);
-                notifyInventoryChange();
-                return true;
-            }
+        ItemType type = ItemType.fromName(itemName);
+        return type != null && removeItem(type, 1);
+    }
+
+    /**
+     * Removes a quantity of one item type in a single step.
+     * @return true if removed, false if fewer items are held
+     */
+    public boolean removeItem(ItemType type, int quantity) {
+        int oldCount = inventory.getCount(type);
+        if (!inventory.remove(type, quantity)) {
+            return false;
         }
-        return false;
+        recordChange(type, oldCount);
+        notifyInventoryChange();
+        return true;
     }
 
-    public int getItemCount(Item item) {
-        return (int) inventory.stream().filter(i -> i.equals(item)).count();
+    /**
+     * Buys a quantity of one item type as a single transaction.
+     * @see #purchase(Map)
+     */
+    public PurchaseReceipt purchase(ItemType type, int quantity) {
+        return purchase(Map.of(type, quantity));
     }
 
     /**
-     * Sells a dish by removing ingredients from inventory and rewarding the player.
-     * @param dishIngredients Ingredients needed for the dish
-     * @param customer        Customer buying the dish
+     * Buys a whole order as one transaction. Funds and inventory capacity are checked
+     * for the complete order first; then the money is debited and every item is added
+     * as a single inventory mutation that publishes one change event.
+     * If any check fails, nothing is paid or added.
+     * @param order Quantity to buy per item type
+     * @return A receipt describing the outcome and the items bought
      */
-    public void sellDish(List<Item> dishIngredients, NormalCustomer customer) {
-        if (dishIngredients.size() != 5) {
-            System.out.println("A dish requires exactly 5 ingredients.");
-            return;
+    public PurchaseReceipt purchase(Map<ItemType, Integer> order) {
+        List<PurchaseReceipt.Line> lines = new ArrayList<>(order.size());
+        double totalCost = 0;
+        int newStacks = 0;
+        for (Map.Entry<ItemType, Integer> entry : order.entrySet()) {
+            ItemType type = entry.getKey();
+            int quantity = entry.getValue() == null ? 0 : entry.getValue();
+            if (quantity <= 0 || inventory.getCount(type) > Integer.MAX_VALUE - quantity) {
+                return new PurchaseReceipt(PurchaseReceipt.Status.INVALID_QUANTITY, lines, 0, money);
+            }
+            if (!inventory.contains(type)) {
+                newStacks++;
+            }
+            lines.add(new PurchaseReceipt.Line(type, quantity, type.getPrice()));
+            totalCost += type.getPrice() * quantity;
         }
 
-        // Validate and process ingredients
-        if (!hasAllIngredients(dishIngredients)) {
-            System.out.println("Missing ingredients. Cannot sell the dish.");
-            return;
+        if (lines.isEmpty()) {
+            return new PurchaseReceipt(PurchaseReceipt.Status.INVALID_QUANTITY, lines, 0, money);
+        }
+        if (totalCost > money) {
+            return new PurchaseReceipt(PurchaseReceipt.Status.INSUFFICIENT_FUNDS, lines, totalCost, money);
+        }
+        if (inventory.getStackCount() + newStacks > inventory.getMaxStacks()) {
+            return new PurchaseReceipt(PurchaseReceipt.Status.INVENTORY_FULL, lines, totalCost, money);
         }
-        removeIngredients(dishIngredients);
 
-        // Reward player
-        int reward = customer.calculateReward();
-        earnMoney(reward);
-        System.out.println("Dish sold for " + reward + " euros!");
+        // Every check passed: apply the whole order at once
+        money -= totalCost;
+        batchInventoryChanges(() -> {
+            for (PurchaseReceipt.Line line : lines) {
+                int oldCount = inventory.getCount(line.getType());
+                inventory.add(line.getType(), line.getQuantity());
+                recordChange(line.getType(), oldCount);
+            }
+        });
+        return new PurchaseReceipt(PurchaseReceipt.Status.SUCCESS, lines, totalCost, money);
     }
 
-    /**
-     * Checks if the inventory contains all required ingredients.
-     * @param ingredients List of required ingredients
-     * @return true if all ingredients are available, false otherwise
-     */
-    private boolean hasAllIngredients(List<Item> ingredients) {
-        for (Item item : ingredients) {
-            if (!inventory.contains(item)) {
-                System.out.println("Missing ingredient: " + item.getName());
-                return false;
-            }
-        }
-        return true;
+    public int getItemCount(Item item) {
+        return inventory.getCount(item.getType());
     }
 
-    /**
-     * Removes a list of ingredients from the inventory.
-     * @param ingredients List of ingredients to remove
-     */
-    private void removeIngredients(List<Item> ingredients) {
-        for (Item item : ingredients) {
-            removeItem(item.getName());
-        }
+    public int getItemCount(ItemType type) {
+        return inventory.getCount(type);
     }
 
     // Crop-related methods
@@ -137,37 +176,96 @@ public class Player {
     }
 
     public boolean harvestCrop(HarvestItem cropItem) {
-        if (!cropItem.isReadyToHarvest()) {
-            System.out.println(cropItem.getName() + " is not ready to harvest yet.");
-            return false;
-        }
+        return harvestCrop(cropItem, 1);
+    }
 
-        if (addItem(cropItem)) {
-            System.out.println("Harvested " + cropItem.getName() + " and added it to your inventory!");
-            return true;
-        } else {
-            System.out.println("Failed to harvest. Inventory is full.");
+    /**
+     * Adds the yield of a ripe crop to the inventory.
+     * @param cropItem The harvested crop
+     * @param yield    Number of items the crop produced, at least one
+     * @return true if harvested, false if the crop is not ready or the inventory is full
+     * @throws IllegalArgumentException if the yield is less than one
+     */
+    public boolean harvestCrop(HarvestItem cropItem, int yield) {
+        if (yield < 1) {
+            throw new IllegalArgumentException("A harvest yields at least one item: " + yield);
+        }
+        if (!cropItem.isReadyToHarvest()) {
             return false;
         }
+        return addItem(cropItem.getType(), yield);
     }
 
     // Debugging and inventory display
     public void printInventory() {
-        System.out.println("Inventory:");
-        for (Item item : inventory) {
-            System.out.println("- " + item.getName());
+        printInventory(System.out);
+    }
+
+    public void printInventory(PrintStream out) {
+        out.println("Inventory:");
+        for (ItemType type : inventory.getTypes()) {
+            out.println("- " + type.getDisplayName() + " x" + inventory.getCount(type));
         }
-        System.out.println("Money: " + getMoney());
+        out.println("Money: " + getMoney());
     }
 
     // Inventory listeners
-    public void addInventoryChangeListener(Consumer<List<Item>> listener) {
+    public void addInventoryChangeListener(Consumer<InventoryEvent> listener) {
         inventoryChangeListeners.add(listener);
     }
 
+    public void removeInventoryChangeListener(Consumer<InventoryEvent> listener) {
+        inventoryChangeListeners.remove(listener);
+    }
+
+    /**
+     * Runs a group of inventory mutations and publishes them as one coalesced event.
+     * Each item type changed inside the batch appears once, with its count before and after.
+     * @param changes Code that adds or removes items
+     */
+    public void batchInventoryChanges(Runnable changes) {
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            batchDepth--;
+            notifyInventoryChange();
+        }
+    }
+
+    /**
+     * Remembers the count a type had before the pending event, the first time it changes.
+     */
+    private void recordChange(ItemType type, int oldCount) {
+        if (pendingOldCounts[type.ordinal()] < 0) {
+            pendingOldCounts[type.ordinal()] = oldCount;
+            pendingTypes.add(type);
+        }
+    }
+
+    /**
+     * Publishes the pending deltas, unless a batch is still open.
+     */
     private void notifyInventoryChange() {
-        for (Consumer<List<Item>> listener : inventoryChangeListeners) {
-            listener.accept(new ArrayList<>(inventory));
+        if (batchDepth > 0 || pendingTypes.isEmpty()) {
+            return;
+        }
+        List<InventoryEvent.Change> changes = new ArrayList<>(pendingTypes.size());
+        for (ItemType type : pendingTypes) {
+            int oldCount = pendingOldCounts[type.ordinal()];
+            int newCount = inventory.getCount(type);
+            if (oldCount != newCount) {
+                changes.add(new InventoryEvent.Change(type, oldCount, newCount));
+            }
+            pendingOldCounts[type.ordinal()] = -1;
+        }
+        pendingTypes.clear();
+        if (changes.isEmpty()) {
+            return;
+        }
+        InventoryEvent event = new InventoryEvent(changes);
+        for (Consumer<InventoryEvent> listener : inventoryChangeListeners) {
+            listener.accept(event);
         }
     }
 }
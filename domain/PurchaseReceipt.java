@@ -0,0 +1,70 @@
+package domain;
+
+import domain.item.ItemType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a purchase made through {@link Player#purchase}.
+ * A purchase is all-or-nothing: unless the status is SUCCESS, nothing was paid or added.
+ */
+public class PurchaseReceipt {
+    /**
+     * Outcome of a purchase.
+     */
+    public enum Status {
+        SUCCESS,
+        INVALID_QUANTITY,
+        INSUFFICIENT_FUNDS,
+        INVENTORY_FULL
+    }
+
+    private final Status status;
+    private final List<Line> lines;
+    private final double totalCost;
+    private final double balance; // Player's money after the purchase
+
+    PurchaseReceipt(Status status, List<Line> lines, double totalCost, double balance) {
+        this.status = status;
+        this.lines = Collections.unmodifiableList(lines);
+        this.totalCost = totalCost;
+        this.balance = balance;
+    }
+
+    public boolean isSuccessful() { return status == Status.SUCCESS; }
+    public Status getStatus() { return status; }
+    public List<Line> getLines() { return lines; }
+    public double getTotalCost() { return totalCost; }
+    public double getBalance() { return balance; }
+
+    @Override
+    public String toString() {
+        return "PurchaseReceipt[" + status + ", " + lines + ", total=" + totalCost + ", balance=" + balance + "]";
+    }
+
+    /**
+     * One ordered item type with its quantity and price.
+     */
+    public static final class Line {
+        private final ItemType type;
+        private final int quantity;
+        private final double unitPrice;
+
+        Line(ItemType type, int quantity, double unitPrice) {
+            this.type = type;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+        }
+
+        public ItemType getType() { return type; }
+        public int getQuantity() { return quantity; }
+        public double getUnitPrice() { return unitPrice; }
+        public double getSubtotal() { return unitPrice * quantity; }
+
+        @Override
+        public String toString() {
+            return quantity + " " + type.getDisplayName();
+        }
+    }
+}
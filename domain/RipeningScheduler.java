@@ -0,0 +1,66 @@
+package domain;
+
+import java.util.PriorityQueue;
+
+/**
+ * Priority queue of planted crops ordered by the time they ripen.
+ * {@link Farm} schedules every crop it plants and polls the queue as time passes,
+ * so finding the crops that just ripened costs O(log n) per ripe crop instead of a
+ * scan over every plot. Removed crops are not searched for in the queue; their
+ * entries are recognised as stale and dropped when they reach the head. An entry is
+ * matched to its crop by planting number, not planting time, because a crop can be
+ * removed and another one planted on the same plot within the same millisecond.
+ */
+final class RipeningScheduler {
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    /**
+     * A crop waiting to ripen.
+     */
+    static final class Entry implements Comparable<Entry> {
+        final long ripeAt;      // Time the crop becomes ready, in milliseconds
+        final long planting;    // Number of the planting, to detect stale entries
+        final int x;
+        final int y;
+
+        Entry(long ripeAt, long planting, int x, int y) {
+            this.ripeAt = ripeAt;
+            this.planting = planting;
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(ripeAt, other.ripeAt);
+        }
+    }
+
+    void schedule(int x, int y, long planting, long ripeAt) {
+        queue.add(new Entry(ripeAt, planting, x, y));
+    }
+
+    /**
+     * Removes and returns the earliest entry if it ripens at or before the given time.
+     * @return The entry, or null if nothing is due yet
+     */
+    Entry pollDue(long now) {
+        Entry head = queue.peek();
+        if (head == null || head.ripeAt > now) {
+            return null;
+        }
+        return queue.poll();
+    }
+
+    /**
+     * @return the time of the next scheduled ripening, or Long.MAX_VALUE if none.
+     */
+    long nextRipeTime() {
+        Entry head = queue.peek();
+        return head == null ? Long.MAX_VALUE : head.ripeAt;
+    }
+
+    int size() {
+        return queue.size();
+    }
+}
@@ -1,18 +1,20 @@
 package domain.item;
 
+import core.GameClock;
+
 /**
  * Represents a harvestable item that can be planted, grown, and sold.
  */
 public class HarvestItem extends Item implements Growable, Purchasable {
-    private double price;          // Price of the item when purchased
-    private int growthTime;        // Time required for the item to fully grow (in seconds)
     private long plantedTimestamp; // Timestamp of when the item was planted (in milliseconds)
     private boolean isHarvested;   // Indicates if the item has been harvested
+    private GameClock clock = GameClock.system(); // Clock used to measure growth
 
-    public HarvestItem(String name, double price, int growthTime) {
-        super(name);
-        this.price = price;
-        this.growthTime = growthTime;
+    public HarvestItem(ItemType type) {
+        super(type);
+        if (!type.isCrop()) {
+            throw new IllegalArgumentException(type.getDisplayName() + " is not a crop.");
+        }
         this.plantedTimestamp = -1; // Initial state: not planted
         this.isHarvested = false;   // Initial state: not harvested
     }
@@ -22,18 +24,39 @@ public class HarvestItem extends Item implements Growable, Purchasable {
      */
     @Override
     public void plant() {
-        System.out.println(getName() + " has been planted.");
-        this.plantedTimestamp = System.currentTimeMillis(); // Record planting time
+        plant(clock.currentTimeMillis()); // Record planting time
+    }
+
+    /**
+     * Puts the item in the growing state as if it had been planted at the given time.
+     * @param plantedTimestamp Planting time in milliseconds
+     */
+    public void plant(long plantedTimestamp) {
+        this.plantedTimestamp = plantedTimestamp;
         this.isHarvested = false; // Mark as currently growing
     }
 
+    /**
+     * Sets the clock used to measure this item's growth.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the planting time in milliseconds, or -1 if the item was not planted.
+     */
+    public long getPlantedTimestamp() {
+        return plantedTimestamp;
+    }
+
     /**
      * Checks if the item is ready to be harvested based on elapsed growth time.
      * @return true if the item is fully grown, false otherwise.
      */
     @Override
     public boolean isReadyToHarvest() {
-        return getTimeElapsed() >= this.growthTime;
+        return getTimeElapsed() >= type.getGrowthTime();
     }
 
     /**
@@ -55,7 +78,7 @@ public class HarvestItem extends Item implements Growable, Purchasable {
      */
     @Override
     public double getPrice() {
-        return price;
+        return type.getPrice();
     }
 
     /**
@@ -66,7 +89,7 @@ public class HarvestItem extends Item implements Growable, Purchasable {
         if (plantedTimestamp == -1 || isHarvested) {
             return 0; // Not planted or growth stops after harvest
         }
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         long elapsedMillis = currentTime - plantedTimestamp;
         return (int) (elapsedMillis / 1000); // Convert milliseconds to seconds
     }
@@ -77,7 +100,7 @@ public class HarvestItem extends Item implements Growable, Purchasable {
      */
     public int getGrowthProgress() {
         int elapsed = getTimeElapsed();
-        return (int) ((double) elapsed / this.growthTime * 100);
+        return (int) ((double) elapsed / type.getGrowthTime() * 100);
     }
 
     /**
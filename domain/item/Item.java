@@ -1,64 +1,37 @@
 package domain.item;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
-import java.awt.image.BufferedImage;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-
-import java.awt.Color;
 
+/**
+ * Base class of every item. The shared, immutable data of an item kind (name, price)
+ * lives in its {@link ItemType} and its sprite in {@link ItemSprites}; instances only
+ * hold per-instance state.
+ */
 public abstract class Item {
-    protected String name;
-    protected ImageIcon sprite;
+    protected final ItemType type;
 
-    public Item(String name) {
-        this.name = name;
-        loadSprite();
+    public Item(ItemType type) {
+        this.type = type;
     }
 
-    private void loadSprite() {
-        try {
-            String imagePath = "/sprites/items/" + name.toLowerCase() + ".png";
-            sprite = new ImageIcon(getClass().getResource(imagePath));
-        } catch (Exception e) {
-            System.err.println("Failed to load sprite for " + name + ": " + e.getMessage());
-            // If fail to load image, use default image
-            sprite = new ImageIcon(getClass().getResource("/sprites/items/default.png"));
+    /**
+     * Returns the sprite scaled to the given size, served from the shared {@link SpriteCache}.
+     */
+    public Image getSprite(int width, int height) {
+        Image scaled = ItemSprites.getInstance().getSprite(type, width, height);
+        if (scaled == null && width > 0 && height > 0) {
+            System.out.println("Sprite is null for: " + getName());
         }
+        return scaled;
     }
 
-    public Image getSprite(int width, int height) {
-        if (sprite == null || sprite.getImage() == null) {
-            System.out.println("Sprite is null for: " + name);
-            return null;
-        }
-        
-        Image img = sprite.getImage();
-        
-        // change image into BufferedImage
-        BufferedImage originalImage = new BufferedImage(
-            img.getWidth(null), 
-            img.getHeight(null), 
-            BufferedImage.TYPE_INT_ARGB
-        );
-        Graphics2D g = originalImage.createGraphics();
-        g.drawImage(img, 0, 0, null);
-        g.dispose();
-        
-        // generate resized BufferedImage
-        BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        g = scaledImage.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g.drawImage(originalImage, 0, 0, width, height, null);
-        g.dispose();
-        
-        return scaledImage;
+    public ItemType getType() {
+        return type;
     }
 
     public String getName() {
-        return name;
+        return type.getDisplayName();
     }
 
     public abstract double getPrice();
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package domain.item;
+
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.net.URL;
+import java.util.function.Function;
+
+/**
+ * Sprites of the item kinds, decoded once per kind on first use. They are kept out of
+ * {@link ItemType} so the item registry, and a headless game using it, loads no AWT class.
+ * The display layer hands in the images it preloaded through {@link #setImageSource};
+ * sprites it does not have are read from the class path.
+ */
+public class ItemSprites {
+    private static ItemSprites instance; // Singleton instance
+
+    private final ImageIcon[] sprites = new ImageIcon[ItemType.values().length]; // Decoded sprite per kind
+    private final boolean[] loaded = new boolean[ItemType.values().length];
+    private volatile Function<String, Image> imageSource = path -> null; // Preloaded images by path
+
+    private ItemSprites() {
+    }
+
+    public static synchronized ItemSprites getInstance() {
+        if (instance == null) {
+            instance = new ItemSprites();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets where preloaded images are looked up, e.g. the asset registry.
+     * Kinds already decoded keep their sprite.
+     * @param imageSource Returns the image of a path such as "sprites/items/tomato.png", or null
+     */
+    public void setImageSource(Function<String, Image> imageSource) {
+        this.imageSource = imageSource;
+    }
+
+    /**
+     * Returns the decoded sprite of an item kind, decoding it on first use.
+     * @return The sprite, or null if the image could not be loaded
+     */
+    public synchronized ImageIcon getSprite(ItemType type) {
+        int index = type.ordinal();
+        if (!loaded[index]) {
+            sprites[index] = load(type);
+            loaded[index] = true;
+        }
+        return sprites[index];
+    }
+
+    /**
+     * Returns the sprite scaled to the given size, served from the shared {@link SpriteCache}.
+     */
+    public Image getSprite(ItemType type, int width, int height) {
+        ImageIcon icon = getSprite(type);
+        if (icon == null || icon.getImage() == null) {
+            return null;
+        }
+        String key = "items/" + type.getDisplayName().toLowerCase();
+        return SpriteCache.getInstance().getScaled(key, icon.getImage(), width, height);
+    }
+
+    private ImageIcon load(ItemType type) {
+        String name = type.getDisplayName().toLowerCase();
+        Image preloaded = imageSource.apply("sprites/items/" + name + ".png");
+        if (preloaded != null) {
+            return new ImageIcon(preloaded);
+        }
+        URL url = ItemSprites.class.getResource("/sprites/items/" + name + ".png");
+        if (url == null) {
+            // If fail to load image, use default image
+            url = ItemSprites.class.getResource("/sprites/items/default.png");
+        }
+        if (url == null) {
+            System.err.println("Failed to load sprite for " + type.getDisplayName());
+            return null;
+        }
+        return new ImageIcon(url);
+    }
+}
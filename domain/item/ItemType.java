@@ -0,0 +1,82 @@
+package domain.item;
+
+import domain.item.crops.*;
+import domain.item.ingredients.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of every item kind in the game.
+ * Each constant is an immutable descriptor (name, price, growth time), so item instances
+ * only carry per-instance state. Sprites are kept apart, in {@link ItemSprites}.
+ */
+public enum ItemType {
+    // Crops: price when bought as seeds, growth time in seconds
+    CORN("Corn", Category.CROP, 2, 5, Corn::new),
+    LETTUCE("Lettuce", Category.CROP, 2, 3, Lettuce::new),
+    OLIVE("Olive", Category.CROP, 3, 15, Olive::new),
+    ONION("Onion", Category.CROP, 2, 5, Onion::new),
+    TOMATO("Tomato", Category.CROP, 2, 10, Tomato::new),
+    TRUFFLE("Truffle", Category.CROP, 20, 600, Truffle::new),
+    WHEAT("Wheat", Category.CROP, 4, 4, Wheat::new),
+
+    // Ingredients: only bought in the shop, never grown
+    EGG("Egg", Category.INGREDIENT, 2, 0, Egg::new),
+    MEAT("Meat", Category.INGREDIENT, 7, 0, Meat::new),
+    MILK("Milk", Category.INGREDIENT, 1, 0, Milk::new),
+    SNAIL("Snail", Category.INGREDIENT, 8, 0, Snail::new);
+
+    /**
+     * Kind of item, used to group items in the shop.
+     */
+    public enum Category {
+        CROP, INGREDIENT
+    }
+
+    private static final Map<String, ItemType> BY_NAME = new HashMap<>();
+
+    static {
+        for (ItemType type : values()) {
+            BY_NAME.put(type.displayName.toLowerCase(), type);
+        }
+    }
+
+    private final String displayName;
+    private final Category category;
+    private final double price;
+    private final int growthTime;           // Growth time in seconds (0 for ingredients)
+    private final Supplier<Item> factory;
+
+    ItemType(String displayName, Category category, double price, int growthTime, Supplier<Item> factory) {
+        this.displayName = displayName;
+        this.category = category;
+        this.price = price;
+        this.growthTime = growthTime;
+        this.factory = factory;
+    }
+
+    /**
+     * Finds an item type by its name, ignoring case.
+     * @param name The item name (e.g. "tomato")
+     * @return The matching ItemType, or null if there is none
+     */
+    public static ItemType fromName(String name) {
+        return name == null ? null : BY_NAME.get(name.toLowerCase());
+    }
+
+    /**
+     * Creates a new item instance of this kind. No image is decoded here.
+     */
+    public Item createItem() {
+        return factory.get();
+    }
+
+    // Getters
+    public String getDisplayName() { return displayName; }
+    public Category getCategory() { return category; }
+    public boolean isCrop() { return category == Category.CROP; }
+    public double getPrice() { return price; }
+    public int getGrowthTime() { return growthTime; }
+}
@@ -0,0 +1,63 @@
+package domain.item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the items sold in the shop.
+ * Lookups by name and by category cost O(1). Every snapshot carries a version
+ * number so views can skip redrawing when the catalog they show is still current.
+ */
+public final class ShopCatalog {
+    private final long version;
+    private final List<ItemType> items;
+    private final Map<String, ItemType> byName;
+    private final Map<ItemType.Category, List<ItemType>> byCategory;
+
+    ShopCatalog(long version, List<ItemType> items) {
+        this.version = version;
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+
+        Map<String, ItemType> names = new HashMap<>();
+        Map<ItemType.Category, List<ItemType>> categories = new EnumMap<>(ItemType.Category.class);
+        for (ItemType.Category category : ItemType.Category.values()) {
+            categories.put(category, new ArrayList<>());
+        }
+        for (ItemType type : this.items) {
+            names.put(type.getDisplayName().toLowerCase(), type);
+            categories.get(type.getCategory()).add(type);
+        }
+        for (Map.Entry<ItemType.Category, List<ItemType>> entry : categories.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.byName = Collections.unmodifiableMap(names);
+        this.byCategory = Collections.unmodifiableMap(categories);
+    }
+
+    /**
+     * Finds an item sold in the shop by its name, ignoring case.
+     * @return The matching ItemType, or null if the shop does not sell it
+     */
+    public ItemType findByName(String name) {
+        return name == null ? null : byName.get(name.toLowerCase());
+    }
+
+    /**
+     * Returns the items of one category, in shop order.
+     */
+    public List<ItemType> getByCategory(ItemType.Category category) {
+        return byCategory.get(category);
+    }
+
+    public boolean contains(ItemType type) {
+        return byName.get(type.getDisplayName().toLowerCase()) == type;
+    }
+
+    public List<ItemType> getItems() { return items; }
+    public long getVersion() { return version; }
+    public int size() { return items.size(); }
+}
@@ -1,14 +1,11 @@
 package domain.item;
 
 public class ShopItem extends Item implements Purchasable {
-    private double price;
-
-    public ShopItem(String name, double price) {
-        super(name);
-        this.price = price;
+    public ShopItem(ItemType type) {
+        super(type);
     }
     @Override
     public double getPrice() {
-        return price;
+        return type.getPrice();
     }
 }
@@ -1,34 +1,61 @@
 package domain.item;
 
-import domain.item.crops.*;
-import domain.item.ingredients.*;
-
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * Items in the shop
+ * Items in the shop.
+ * The catalog is built once, on first use, and shared as an immutable snapshot.
  */
 public class ShopItemManager {
-    private static List<Item> allItems = new ArrayList<>();
-    public ShopItemManager() {
-        this.allItems = new ArrayList<>();
-        initializeItems();
+    private static final List<ItemType> DEFAULT_ITEMS = Arrays.asList(
+            ItemType.OLIVE,
+            ItemType.LETTUCE,
+            ItemType.TOMATO,
+            ItemType.ONION,
+            ItemType.TRUFFLE,
+            ItemType.WHEAT,
+            ItemType.MEAT,
+            ItemType.EGG,
+            ItemType.MILK,
+            ItemType.SNAIL
+    );
+
+    private static volatile ShopCatalog catalog; // Current snapshot, built lazily
+    private static long lastVersion = 0;         // Version of the most recently built snapshot
+
+    private ShopItemManager() {
     }
-    private static void initializeItems() {
-        allItems.add(new Olive());
-        allItems.add(new Lettuce());
-        allItems.add(new Tomato());
-        allItems.add(new Onion());
-        allItems.add(new Truffle());
-        allItems.add(new Wheat());
-        allItems.add(new Meat());
-        allItems.add(new Egg());
-        allItems.add(new Milk());
-        allItems.add(new Snail());
 
+    /**
+     * Returns the current shop catalog, building the default one on first use.
+     */
+    public static ShopCatalog getCatalog() {
+        ShopCatalog current = catalog;
+        if (current == null) {
+            synchronized (ShopItemManager.class) {
+                current = catalog;
+                if (current == null) {
+                    current = new ShopCatalog(++lastVersion, DEFAULT_ITEMS);
+                    catalog = current;
+                }
+            }
+        }
+        return current;
     }
-    public static List<Item> getAllItems() {
-        initializeItems();
-        return allItems;
+
+    /**
+     * Replaces the shop stock with a new snapshot that has a higher version.
+     * @param items Items to sell, in display order
+     * @return The newly published catalog
+     */
+    public static synchronized ShopCatalog replaceCatalog(List<ItemType> items) {
+        ShopCatalog replacement = new ShopCatalog(++lastVersion, items);
+        catalog = replacement;
+        return replacement;
+    }
+
+    public static List<ItemType> getAllItems() {
+        return getCatalog().getItems();
     }
 }
@@ -0,0 +1,137 @@
+package domain.item;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of scaled sprites, keyed by (sprite name, width, height).
+ * Entries are kept in access order and the least recently used one is evicted
+ * once the cache is full, so repeated draws at the same size cost no allocation.
+ */
+public class SpriteCache {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static SpriteCache instance; // Singleton instance
+
+    private final int capacity;
+    private final Map<Key, BufferedImage> entries;
+    private final Key probe = new Key(); // Reused lookup key, guarded by this
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SpriteCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, BufferedImage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+                if (size() > SpriteCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the shared sprite cache used by items and recipes.
+     * @return The shared instance of SpriteCache.
+     */
+    public static synchronized SpriteCache getInstance() {
+        if (instance == null) {
+            instance = new SpriteCache(DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the source image scaled to the given size, scaling it only on a cache miss.
+     * @param spriteName Unique name of the source sprite (e.g. its resource path)
+     * @param source     The unscaled source image
+     * @param width      Target width in pixels
+     * @param height     Target height in pixels
+     * @return The scaled image, or null if the source is missing or the size is empty
+     */
+    public synchronized Image getScaled(String spriteName, Image source, int width, int height) {
+        if (source == null || width <= 0 || height <= 0) {
+            return null;
+        }
+        BufferedImage cached = entries.get(probe.set(spriteName, width, height));
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        BufferedImage scaled = scale(source, width, height);
+        entries.put(new Key().set(spriteName, width, height), scaled);
+        return scaled;
+    }
+
+    /**
+     * Draws the source image into a new ARGB image of the given size using bilinear interpolation.
+     */
+    private static BufferedImage scale(Image source, int width, int height) {
+        BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaledImage.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaledImage;
+    }
+
+    /**
+     * Removes every cached sprite. Counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    // Statistics
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized int size() { return entries.size(); }
+    public int getCapacity() { return capacity; }
+
+    @Override
+    public synchronized String toString() {
+        return "SpriteCache[size=" + entries.size() + "/" + capacity
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+
+    /**
+     * Cache key made of a sprite name and a target size.
+     */
+    private static final class Key {
+        private String name;
+        private int width;
+        private int height;
+
+        Key set(String name, int width, int height) {
+            this.name = name;
+            this.width = width;
+            this.height = height;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return (name.hashCode() * 31 + width) * 31 + height;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Corn extends HarvestItem {
     public Corn() {
-        super("Corn", 2, 5);
+        super(ItemType.CORN);
     }
 }
\ No newline at end of file
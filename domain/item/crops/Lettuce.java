@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Lettuce extends HarvestItem {
     public Lettuce() {
-        super("Lettuce", 2, 3);
+        super(ItemType.LETTUCE);
     }
 }
\ No newline at end of file
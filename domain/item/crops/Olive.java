@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Olive extends HarvestItem {
     public Olive() {
-        super("Olive", 3, 15);
+        super(ItemType.OLIVE);
     }
 }
@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Onion extends HarvestItem {
     public Onion() {
-        super("Onion", 2, 5);
+        super(ItemType.ONION);
     }
 }
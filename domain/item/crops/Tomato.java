@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Tomato extends HarvestItem {
     public Tomato() {
-        super("Tomato", 2, 10);
+        super(ItemType.TOMATO);
     }
 }
\ No newline at end of file
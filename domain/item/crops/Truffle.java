@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Truffle extends HarvestItem {
     public Truffle() {
-        super("Truffle", 20, 600);
+        super(ItemType.TRUFFLE);
     }
 }
\ No newline at end of file
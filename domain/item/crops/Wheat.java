@@ -1,9 +1,10 @@
 package domain.item.crops;
 
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
 public class Wheat extends HarvestItem {
     public Wheat() {
-        super("Wheat", 4, 4);
+        super(ItemType.WHEAT);
     }
 }
\ No newline at end of file
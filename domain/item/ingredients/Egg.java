@@ -1,9 +1,10 @@
 package domain.item.ingredients;
 
 import domain.item.ShopItem;
+import domain.item.ItemType;
 
 public class Egg extends ShopItem {
     public Egg() {
-        super("Egg", 2);
+        super(ItemType.EGG);
     }
 }
@@ -1,9 +1,10 @@
 package domain.item.ingredients;
 
 import domain.item.ShopItem;
+import domain.item.ItemType;
 
 public class Meat extends ShopItem {
     public Meat() {
-        super("Meat", 7);
+        super(ItemType.MEAT);
     }
 }
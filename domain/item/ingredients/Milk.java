@@ -1,9 +1,10 @@
 package domain.item.ingredients;
 
 import domain.item.ShopItem;
+import domain.item.ItemType;
 
 public class Milk extends ShopItem {
     public Milk() {
-        super("Milk", 1);
+        super(ItemType.MILK);
     }
 }
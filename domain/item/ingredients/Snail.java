@@ -1,9 +1,10 @@
 package domain.item.ingredients;
 
 import domain.item.ShopItem;
+import domain.item.ItemType;
 
 public class Snail extends ShopItem {
     public Snail() {
-        super("Snail", 8);
+        super(ItemType.SNAIL);
     }
 }
@@ -0,0 +1,29 @@
+package domain.recipe;
+
+import java.util.List;
+import java.util.ArrayList;
+
+/**
+ * Represents a recipe with a name, list of ingredients, difficulty and base reward.
+ * Its sprite is looked up by the display layer through {@link game.recipe.RecipeSprites},
+ * so the simulation can use recipes without loading any AWT class.
+ */
+public class Recipe {
+    private String name;
+    private List<String> ingredients;
+    private int difficulty;
+    private int baseReward;
+
+    public Recipe(String name, List<String> ingredients, int baseReward) {
+        this.name = name;
+        this.ingredients = new ArrayList<>(ingredients);
+        this.difficulty = ingredients.size();
+        this.baseReward = baseReward;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public List<String> getIngredients() { return new ArrayList<>(ingredients); }
+    public int getDifficulty() { return difficulty; }
+    public int getBaseReward() { return baseReward; }
+}
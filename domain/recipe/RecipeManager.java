@@ -1,10 +1,11 @@
-package game.recipe;
+package domain.recipe;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class RecipeManager {
-    private static RecipeManager instance; // Singleton instance
-    private Map<String, Recipe> recipes;   // Stores recipes by name
+    private final Map<String, Recipe> recipes; // Stores recipes by name, never changed after construction
 
     // Private constructor for singleton
     private RecipeManager() {
@@ -12,26 +13,43 @@ public class RecipeManager {
         initializeRecipes(); // Initialize the recipe collection
     }
 
+    /**
+     * Holds the singleton; the class is initialized, once and thread-safely, on first use.
+     */
+    private static final class Holder {
+        static final RecipeManager INSTANCE = new RecipeManager();
+    }
+
     /**
      * Returns the singleton instance of RecipeManager.
+     * Safe to call from any thread, without locking.
      * @return The shared instance of RecipeManager.
      */
     public static RecipeManager getInstance() {
-        if (instance == null) {
-            instance = new RecipeManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
      * Retrieves a specified number of random recipes from the available recipes.
+     * The choice is not reproducible; games draw from their session stream instead.
      * @param count Number of recipes to retrieve.
      * @return A list of random Recipe objects.
      */
     public List<Recipe> getRandomRecipes(int count) {
+        return getRandomRecipes(count, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Retrieves a specified number of random recipes, drawn from the given source of randomness.
+     * The same seed gives the same recipes.
+     * @param count  Number of recipes to retrieve.
+     * @param random Source of the random choices.
+     * @return A list of random Recipe objects.
+     */
+    public List<Recipe> getRandomRecipes(int count, RandomGenerator random) {
         List<Recipe> allRecipes = new ArrayList<>(recipes.values()); // Get all recipes
+        allRecipes.sort(Comparator.comparing(Recipe::getName)); // Fixed order, independent of the map
         List<Recipe> randomRecipes = new ArrayList<>();
-        Random random = new Random();
 
         // Randomly select recipes until the desired count is reached
         while (randomRecipes.size() < count && !allRecipes.isEmpty()) {
@@ -1,13 +1,26 @@
 package game;
 
+import game.asset.AssetManifest;
+import game.asset.AssetPreloader;
+import game.asset.SpriteAtlas;
 import game.ui.GameWindow;
+import game.ui.LoadingScreen;
 import javax.swing.*;
-import java.awt.*;
-import java.awt.event.*;
 
 public class GameMain {
     public static void main(String[] args) {
+        LoadingScreen loadingScreen = new LoadingScreen();
+        SwingUtilities.invokeLater(loadingScreen::open);
+
+        // Decode every sprite in parallel while the loading screen shows progress
+        long start = System.nanoTime();
+        new AssetPreloader().load(AssetManifest.scanSprites(), loadingScreen);
+        SpriteAtlas.getInstance().preloadCharacters(); // Slice character sheets before the first frame
+        SpriteAtlas.getInstance().preloadCrops();
+        System.out.printf("Assets loaded in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+
         SwingUtilities.invokeLater(() -> {
+            loadingScreen.close();
             GameWindow game = new GameWindow();
             game.setVisible(true);
         });
@@ -0,0 +1,60 @@
+package game.asset;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * List of the image files the game loads, found by walking the sprite folder.
+ * The "readme" folder only holds screenshots for the documentation and is left out.
+ */
+public class AssetManifest {
+    public static final String SPRITE_ROOT = "sprites";
+    private static final String EXCLUDED_FOLDER = "readme";
+
+    private final List<String> paths;
+
+    public AssetManifest(List<String> paths) {
+        this.paths = Collections.unmodifiableList(new ArrayList<>(paths));
+    }
+
+    /**
+     * Builds the manifest of every PNG under the sprite folder.
+     * @return The manifest, empty if the folder does not exist
+     */
+    public static AssetManifest scanSprites() {
+        List<String> paths = new ArrayList<>();
+        collect(new File(SPRITE_ROOT), SPRITE_ROOT, paths);
+        Collections.sort(paths);
+        return new AssetManifest(paths);
+    }
+
+    private static void collect(File folder, String prefix, List<String> paths) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String path = prefix + "/" + file.getName();
+            if (file.isDirectory()) {
+                if (!file.getName().equals(EXCLUDED_FOLDER)) {
+                    collect(file, path, paths);
+                }
+            } else if (file.getName().toLowerCase().endsWith(".png")) {
+                paths.add(path);
+            }
+        }
+    }
+
+    /**
+     * @return Paths of the image files, with '/' separators
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public int size() {
+        return paths.size();
+    }
+}
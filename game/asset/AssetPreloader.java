@@ -0,0 +1,121 @@
+package game.asset;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+
+/**
+ * Decodes every asset of a manifest in parallel on a pool of worker threads and publishes
+ * the result as the shared {@link AssetRegistry}. Progress is reported as each file finishes.
+ */
+public class AssetPreloader {
+    /**
+     * Receives loading progress. Called from the thread running {@link #load}.
+     */
+    public interface ProgressListener {
+        /**
+         * @param loaded Number of files finished so far, including failed ones
+         * @param total  Number of files in the manifest
+         * @param path   The file that just finished
+         */
+        void progress(int loaded, int total, String path);
+    }
+
+    private final int threads;
+
+    public AssetPreloader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public AssetPreloader(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Decodes all assets of the manifest, then publishes and returns the registry.
+     * Files that fail to decode are reported and left out of the registry.
+     * @param manifest The files to load
+     * @param listener Progress receiver, may be null
+     * @return The published registry
+     */
+    public AssetRegistry load(AssetManifest manifest, ProgressListener listener) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, manifest.size())),
+                daemonThreads());
+        Map<String, BufferedImage> images = new HashMap<>();
+        try {
+            CompletionService<Decoded> completion = new ExecutorCompletionService<>(pool);
+            for (String path : manifest.getPaths()) {
+                completion.submit(() -> new Decoded(path, decode(path)));
+            }
+            for (int loaded = 1; loaded <= manifest.size(); loaded++) {
+                Future<Decoded> done = completion.take();
+                Decoded decoded = done.get();
+                if (decoded.image != null) {
+                    images.put(decoded.path, decoded.image);
+                }
+                if (listener != null) {
+                    listener.progress(loaded, manifest.size(), decoded.path);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Asset loading interrupted.");
+        } catch (ExecutionException e) {
+            System.out.println("Asset loading failed: " + e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        AssetRegistry registry = new AssetRegistry(images);
+        AssetRegistry.publish(registry);
+        return registry;
+    }
+
+    private static BufferedImage decode(String path) {
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image == null) {
+                System.out.println("Unsupported image: " + path);
+            }
+            return image;
+        } catch (IOException e) {
+            System.out.println("Error loading " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "asset-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A decoded file, or a null image if decoding failed.
+     */
+    private static final class Decoded {
+        final String path;
+        final BufferedImage image;
+
+        Decoded(String path, BufferedImage image) {
+            this.path = path;
+            this.image = image;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package game.asset;
+
+import domain.item.ItemSprites;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of decoded images, keyed by their path relative to the working directory
+ * (e.g. "sprites/items/tomato.png"). The preloader publishes one registry once every asset
+ * is decoded; until then {@link #getInstance()} returns an empty registry and callers fall
+ * back to loading the file themselves.
+ */
+public class AssetRegistry {
+    private static final AssetRegistry EMPTY = new AssetRegistry(Collections.emptyMap());
+    private static volatile AssetRegistry instance = EMPTY; // Currently published registry
+
+    private final Map<String, BufferedImage> images;
+
+    AssetRegistry(Map<String, BufferedImage> images) {
+        this.images = Collections.unmodifiableMap(new HashMap<>(images));
+    }
+
+    /**
+     * Returns the published registry, or an empty one if assets were not preloaded.
+     * @return The shared instance of AssetRegistry.
+     */
+    public static AssetRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Makes the registry visible to every thread through {@link #getInstance()},
+     * and the source of the item sprites.
+     */
+    static void publish(AssetRegistry registry) {
+        instance = registry;
+        ItemSprites.getInstance().setImageSource(registry::getImage);
+    }
+
+    /**
+     * @param path Path of the image file, with '/' separators and no leading slash
+     * @return The decoded image, or null if it was not preloaded
+     */
+    public BufferedImage getImage(String path) {
+        return images.get(path);
+    }
+
+    /**
+     * @return The decoded image as an icon, or null if it was not preloaded
+     */
+    public ImageIcon getIcon(String path) {
+        BufferedImage image = images.get(path);
+        return image == null ? null : new ImageIcon(image);
+    }
+
+    public boolean contains(String path) {
+        return images.containsKey(path);
+    }
+
+    public Set<String> getPaths() {
+        return images.keySet();
+    }
+
+    public int size() {
+        return images.size();
+    }
+}
@@ -0,0 +1,25 @@
+package game.asset;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+
+/**
+ * Fonts and colors shared by the on-screen text, created once instead of on every frame.
+ */
+public final class HudStyle {
+    public static final Font MONEY_FONT = new Font("Arial", Font.BOLD, 16);
+    public static final Color MONEY_BACKGROUND = new Color(255, 255, 255, 180);
+    public static final Color MONEY_TEXT = new Color(0, 100, 0);
+    public static final Color TIMER_BACKGROUND = Color.BLACK;
+    public static final Color TIMER_TEXT = Color.WHITE;
+    public static final Color TIMER_URGENT_TEXT = Color.RED; // Timer color when time is nearly up
+    public static final Color LABEL_TEXT = Color.BLACK;
+    public static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    // Text is laid out for plain, non-antialiased drawing, the default of a Graphics2D
+    public static final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, false, false);
+
+    private HudStyle() {
+    }
+}
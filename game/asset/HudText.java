@@ -0,0 +1,81 @@
+package game.asset;
+
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.font.TextLayout;
+import java.util.function.LongFunction;
+
+/**
+ * A piece of on-screen text showing a number, such as the player's money or a countdown.
+ * The text is formatted and laid out again only when the shown value or the font changes;
+ * drawing an unchanged value reuses the same {@link TextLayout} without allocating.
+ */
+public final class HudText {
+    private final LongFunction<String> formatter;
+    private Font font;
+    private long value;
+    private boolean laidOut; // false until the first value, or after the font changed
+    private String text = "";
+    private TextLayout layout; // null for empty text
+
+    /**
+     * @param font      Font of the text
+     * @param formatter Turns the value into the text to show
+     */
+    public HudText(Font font, LongFunction<String> formatter) {
+        this.font = font;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Creates a text drawn in the font of the target graphics,
+     * which must be passed to {@link #setFont} before the first value.
+     */
+    public HudText(LongFunction<String> formatter) {
+        this(null, formatter);
+    }
+
+    /**
+     * Sets the value to show, formatting and laying out the text only if it changed.
+     * @return true if the text was laid out again
+     */
+    public boolean setValue(long value) {
+        if (laidOut && value == this.value) {
+            return false;
+        }
+        this.value = value;
+        text = formatter.apply(value);
+        layout = text.isEmpty() ? null : new TextLayout(text, font, HudStyle.RENDER_CONTEXT);
+        laidOut = true;
+        return true;
+    }
+
+    /**
+     * Changes the font; the text is laid out again on the next {@link #setValue}.
+     */
+    public void setFont(Font font) {
+        if (!font.equals(this.font)) {
+            this.font = font;
+            laidOut = false;
+        }
+    }
+
+    /**
+     * Draws the text in the current color of the graphics.
+     * @param x        Left edge of the text
+     * @param baseline Baseline of the text
+     */
+    public void draw(Graphics g, float x, float baseline) {
+        if (layout != null) {
+            layout.draw((Graphics2D) g, x, baseline);
+        }
+    }
+
+    public String getText() { return text; }
+    public int getWidth() { return layout == null ? 0 : (int) Math.ceil(layout.getAdvance()); }
+    public int getAscent() { return layout == null ? 0 : (int) Math.ceil(layout.getAscent()); }
+    public int getHeight() {
+        return layout == null ? 0 : (int) Math.ceil(layout.getAscent() + layout.getDescent() + layout.getLeading());
+    }
+}
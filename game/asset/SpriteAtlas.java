@@ -0,0 +1,304 @@
+package game.asset;
+
+import domain.item.ItemSprites;
+import domain.item.ItemType;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import javax.swing.ImageIcon;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Shared store of character animation frames and crop growth stages.
+ * A character sheet is a 3x4 grid: the columns hold the front, back and side (facing right)
+ * animations, the rows their four frames. Each sheet is decoded once; its frames are copied
+ * into images compatible with the screen, already scaled to the drawing size, and a mirrored
+ * copy of the side frames is made for characters walking left. Every character drawn from the
+ * same sheet shares the same frames, so nothing is decoded, sliced or flipped while playing.
+ * Crops are drawn from a fixed number of growth stages per crop type, each one scaled and
+ * faded for its stage ahead of time, so a crop is drawn with a single plain blit. The growth
+ * progress bar under a crop is prepared the same way, one image per percent.
+ */
+public class SpriteAtlas {
+    public static final int FRAME_SIZE = 40;        // Drawing size of a character, in pixels
+    public static final int FRAMES_PER_POSE = 4;
+    public static final int CROP_SIZE = FRAME_SIZE - 10; // Drawing size of a fully grown crop
+    public static final int GROWTH_STAGES = 16;     // Growth progress is shown in this many steps
+    public static final int PROGRESS_BAR_WIDTH = FRAME_SIZE - 6;
+    public static final int PROGRESS_BAR_HEIGHT = 4;
+    private static final Color PROGRESS_BACKGROUND = new Color(100, 100, 100, 180);
+    private static final Color PROGRESS_FILL = new Color(50, 205, 50, 230);
+    private static final Color PROGRESS_BORDER = new Color(0, 0, 0, 180);
+    public static final String PLAYER_SHEET = "sprites/player/player.png";
+    public static final String[] CUSTOMER_SHEETS = {
+            "sprites/player/customer1.png",
+            "sprites/player/customer2.png",
+            "sprites/player/customer3.png",
+            "sprites/player/customer4.png",
+            "sprites/player/customer5.png",
+    };
+
+    private static SpriteAtlas instance; // Singleton instance
+
+    private final Map<String, CharacterFrames> characters = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> missing = new ConcurrentHashMap<>(); // Sheets that failed to load
+    private final Map<ItemType, CropStages> crops = new ConcurrentHashMap<>();
+    private volatile BufferedImage[] progressBars; // One per percent, created on first use
+
+    /**
+     * Direction a character is drawn in, one column of frames each.
+     */
+    public enum Pose {
+        FRONT, BACK, RIGHT, LEFT
+    }
+
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Returns the shared sprite atlas.
+     * @return The shared instance of SpriteAtlas.
+     */
+    public static synchronized SpriteAtlas getInstance() {
+        if (instance == null) {
+            instance = new SpriteAtlas();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the frames of a character sheet, decoding it on first use.
+     * @param path Path of the sheet image
+     * @return The shared frames, or null if the sheet cannot be loaded
+     */
+    public CharacterFrames getCharacter(String path) {
+        CharacterFrames frames = characters.get(path);
+        if (frames != null || missing.containsKey(path)) {
+            return frames;
+        }
+        frames = characters.computeIfAbsent(path, SpriteAtlas::load);
+        if (frames == null) {
+            missing.put(path, Boolean.TRUE);
+        }
+        return frames;
+    }
+
+    /**
+     * Decodes the player and customer sheets up front, so that no spawn has to touch the disk.
+     */
+    public void preloadCharacters() {
+        getCharacter(PLAYER_SHEET);
+        for (String sheet : CUSTOMER_SHEETS) {
+            getCharacter(sheet);
+        }
+    }
+
+    /**
+     * Returns the growth stages of a crop type, rendering them on first use.
+     * @param type A crop type
+     * @return The shared stages; they hold no images if the crop has no sprite
+     */
+    public CropStages getCrop(ItemType type) {
+        CropStages stages = crops.get(type);
+        return stages != null ? stages : crops.computeIfAbsent(type, CropStages::new);
+    }
+
+    /**
+     * Renders the growth stages of every crop type and the progress bars up front.
+     */
+    public void preloadCrops() {
+        for (ItemType type : ItemType.values()) {
+            if (type.isCrop()) {
+                getCrop(type);
+            }
+        }
+        getProgressBar(0);
+    }
+
+    /**
+     * Returns the growth progress bar, including its border, which makes it one pixel
+     * larger than {@link #PROGRESS_BAR_WIDTH} x {@link #PROGRESS_BAR_HEIGHT}.
+     * @param progress Growth progress from 0 to 100
+     * @return The shared image, which must not be modified
+     */
+    public BufferedImage getProgressBar(int progress) {
+        BufferedImage[] bars = progressBars;
+        if (bars == null) {
+            synchronized (this) {
+                bars = progressBars;
+                if (bars == null) {
+                    bars = new BufferedImage[101];
+                    for (int i = 0; i <= 100; i++) {
+                        bars[i] = renderProgressBar(i);
+                    }
+                    progressBars = bars;
+                }
+            }
+        }
+        return bars[Math.min(100, Math.max(0, progress))];
+    }
+
+    private static BufferedImage renderProgressBar(int progress) {
+        BufferedImage bar = createCompatibleImage(PROGRESS_BAR_WIDTH + 1, PROGRESS_BAR_HEIGHT + 1);
+        Graphics2D g = bar.createGraphics();
+        g.setColor(PROGRESS_BACKGROUND);
+        g.fillRect(0, 0, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+
+        // Green for the progress bar
+        g.setColor(PROGRESS_FILL);
+        g.fillRect(0, 0, (int) ((PROGRESS_BAR_WIDTH * progress) / 100.0), PROGRESS_BAR_HEIGHT);
+
+        // Border of the progress bar
+        g.setColor(PROGRESS_BORDER);
+        g.drawRect(0, 0, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+        g.dispose();
+        return bar;
+    }
+
+    public int getLoadedCount() {
+        return characters.size();
+    }
+
+    private static CharacterFrames load(String path) {
+        BufferedImage preloaded = AssetRegistry.getInstance().getImage(path);
+        if (preloaded != null) {
+            return new CharacterFrames(preloaded);
+        }
+        File file = new File(path);
+        if (!file.exists()) {
+            System.out.println("Sprite sheet not found: " + path);
+            return null;
+        }
+        try {
+            BufferedImage sheet = ImageIO.read(file);
+            if (sheet == null) {
+                System.out.println("Unsupported sprite sheet: " + path);
+                return null;
+            }
+            return new CharacterFrames(sheet);
+        } catch (IOException e) {
+            System.out.println("Error loading sprite sheet " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Creates an empty translucent image in the format of the screen,
+     * or a premultiplied ARGB image when there is no screen.
+     */
+    static BufferedImage createCompatibleImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Immutable growth stages of one crop type, {@link #CROP_SIZE} square each.
+     * Stage s shows the crop at s / ({@link #GROWTH_STAGES} - 1) of its growth: the sprite is
+     * scaled to that share of the full size, centred, and its opacity multiplied by the same
+     * share. The images use premultiplied alpha, so drawing them needs no composite.
+     */
+    public static final class CropStages {
+        private final BufferedImage[] stages = new BufferedImage[GROWTH_STAGES];
+
+        private CropStages(ItemType type) {
+            ImageIcon icon = ItemSprites.getInstance().getSprite(type);
+            Image sprite = icon == null ? null : icon.getImage();
+            if (sprite == null) {
+                return;
+            }
+            for (int stage = 1; stage < GROWTH_STAGES; stage++) {
+                stages[stage] = render(sprite, stage * 100 / (GROWTH_STAGES - 1));
+            }
+        }
+
+        /**
+         * Draws the sprite as a crop at the given growth progress, or returns null if it would be empty.
+         */
+        private static BufferedImage render(Image sprite, int progress) {
+            int size = CROP_SIZE * progress / 100;
+            if (size <= 0) {
+                return null;
+            }
+            BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D sg = scaled.createGraphics();
+            sg.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            sg.drawImage(sprite, 0, 0, size, size, null);
+            sg.dispose();
+
+            BufferedImage stage = createCompatibleImage(CROP_SIZE, CROP_SIZE);
+            Graphics2D g = stage.createGraphics();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, progress / 100f));
+            int offset = (CROP_SIZE - size) / 2;
+            g.drawImage(scaled, offset, offset, null);
+            g.dispose();
+            return stage;
+        }
+
+        /**
+         * @param progress Growth progress from 0 to 100
+         * @return The shared image of the nearest stage, which must not be modified,
+         *         or null if there is nothing to draw
+         */
+        public BufferedImage getFrame(int progress) {
+            int clamped = Math.min(100, Math.max(0, progress));
+            return stages[(clamped * (GROWTH_STAGES - 1) + 50) / 100];
+        }
+    }
+
+    /**
+     * Immutable animation frames of one character, scaled to {@link #FRAME_SIZE}.
+     */
+    public static final class CharacterFrames {
+        private final BufferedImage[][] frames = new BufferedImage[Pose.values().length][FRAMES_PER_POSE];
+
+        private CharacterFrames(BufferedImage sheet) {
+            int frameWidth = sheet.getWidth() / 3;   // 3 columns
+            int frameHeight = sheet.getHeight() / 4; // 4 rows
+            for (int i = 0; i < FRAMES_PER_POSE; i++) {
+                int sy = i * frameHeight;
+                frames[Pose.FRONT.ordinal()][i] = copy(sheet, 0, sy, frameWidth, frameHeight, false);
+                frames[Pose.BACK.ordinal()][i] = copy(sheet, frameWidth, sy, frameWidth, frameHeight, false);
+                frames[Pose.RIGHT.ordinal()][i] = copy(sheet, frameWidth * 2, sy, frameWidth, frameHeight, false);
+                // Mirror the scaled frame, so both sides are exact mirror images
+                BufferedImage right = frames[Pose.RIGHT.ordinal()][i];
+                frames[Pose.LEFT.ordinal()][i] = copy(right, 0, 0, FRAME_SIZE, FRAME_SIZE, true);
+            }
+        }
+
+        /**
+         * Copies one cell of an image into a new frame of the drawing size, mirrored if asked.
+         */
+        private static BufferedImage copy(BufferedImage source, int sx, int sy, int w, int h, boolean mirrored) {
+            BufferedImage frame = createCompatibleImage(FRAME_SIZE, FRAME_SIZE);
+            Graphics2D g = frame.createGraphics();
+            int left = mirrored ? FRAME_SIZE : 0;
+            int right = mirrored ? 0 : FRAME_SIZE;
+            g.drawImage(source, left, 0, right, FRAME_SIZE, sx, sy, sx + w, sy + h, null);
+            g.dispose();
+            return frame;
+        }
+
+        /**
+         * @param pose  Direction the character faces
+         * @param frame Animation frame, 0 to {@link #FRAMES_PER_POSE} - 1
+         * @return The shared frame image, which must not be modified
+         */
+        public BufferedImage getFrame(Pose pose, int frame) {
+            return frames[pose.ordinal()][frame];
+        }
+    }
+}
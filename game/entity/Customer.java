@@ -1,86 +1,71 @@
 package game.entity;
 
-import game.recipe.Recipe;
+import domain.recipe.Recipe;
+import game.asset.HudStyle;
+import game.asset.HudText;
+import game.asset.SpriteAtlas;
+import sim.SimCustomer;
 import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.List;
 
+/**
+ * On-screen view of a {@link SimCustomer}: follows the customer's position, animates their
+ * sprite and shows how much patience they have left. The rules live in the simulation.
+ */
 public abstract class Customer {
+    protected final SimCustomer model;
     protected int x, y;
+    protected int prevX, prevY; // Position before the last update, for interpolated drawing
     protected static final int SIZE = 40;
-    protected BufferedImage spriteSheet;
-    protected BufferedImage[] sprites;
+    protected SpriteAtlas.CharacterFrames frames; // Shared animation frames, null if the sheet is missing
     protected int currentFrame = 0;
     protected int animationDelay = 0;
     protected static final int ANIMATION_SPEED = 12;
-    protected boolean isWaiting = true;
-    protected BufferedImage[] frontSprites;
-    protected BufferedImage[] backSprites;
-    protected BufferedImage[] sideSprites;
     protected Direction facing = Direction.DOWN;
     protected boolean facingLeft = true;
     protected boolean isMoving = false;
-    protected long spawnTime;  // The time the customer was created
-    protected long remainingTime; // Remaining time for the customer to wait
-    protected List<String> orderedMenus;  // menu list
-    protected int satisfactionLevel;      // satisfaction level(0~5)
-    protected int maxWaitingTime;         // maximum waiting time
-    protected int currentWaitingTime;     // current waiting time
-    public boolean isWaitingTooLong() {
-        return currentWaitingTime >= maxWaitingTime;
-    }
-    public boolean isOrderComplete() {
-        return false;
-    }
-    private List<Recipe> assignedRecipes;
+    private final HudText timeText = new HudText(seconds -> seconds + " s"); // Timer label, laid out once per second
 
     protected enum Direction {
         DOWN, UP, SIDE
     }
 
-    public Customer(int x, int y) {
-        this.x = x;
-        this.y = y;
-        this.spawnTime = System.currentTimeMillis();
-        this.assignedRecipes = null;
-        this.satisfactionLevel = 5;
-        this.maxWaitingTime = 30000;
+    public Customer(SimCustomer model) {
+        this.model = model;
+        this.x = model.getX();
+        this.y = model.getY();
+        this.prevX = x;
+        this.prevY = y;
         loadSprites();
-        initializeCustomer();
     }
 
-    public long getRemainingTime(){
-        remainingTime = maxWaitingTime - (System.currentTimeMillis() - spawnTime);
-        return remainingTime > 0 ? remainingTime : 0; // Prevent negative remaining time
-    }
+    // abstract methods
+    protected abstract void loadSprites();  // load sprites for customer
 
+    public SimCustomer getModel() {
+        return model;
+    }
 
     public List<Recipe> getAssignedRecipes() {
-        return assignedRecipes;
-    }
-    public void assignRecipes(List<Recipe> recipes) {
-        this.assignedRecipes = recipes;
+        return model.getAssignedRecipes();
     }
 
-    // abstract methods
-    protected abstract void loadSprites();  // load sprites for customer
-    public abstract void initializeCustomer();
-    public abstract void updateSatisfaction(List<String> ingredients);
-    public abstract int calculateReward();
+    public long getRemainingTime() {
+        return model.getRemainingTime();
+    }
 
     /**
-     * Update the customer state: checks waiting time and updates animation.
-     * If the customer has waited too long, their satisfaction decreases.
+     * Follows the simulated customer: takes over their position, faces up while they walk
+     * to the counter and down while they wait, and updates the animation.
      */
     public void update() {
-        if (isWaiting) {
-            currentWaitingTime = (int)(System.currentTimeMillis() - spawnTime);
-            if (currentWaitingTime >= maxWaitingTime) {
-                decreaseSatisfaction();
-            }
-        }
+        x = model.getX();
+        y = model.getY();
+        isMoving = model.isWalking();
+        facing = isMoving ? Direction.UP : Direction.DOWN;
         updateAnimation();
     }
+
     /**
      * Updates the animation frames when the customer is moving.
      * If the customer is idle, resets the frame to 0.
@@ -96,42 +81,41 @@ public abstract class Customer {
             currentFrame = 0;  // idle frame
         }
     }
+    /**
+     * Remembers the current position as the start point for interpolated drawing.
+     * Called by the game loop before each update.
+     */
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+
     /**
      * Draw the customer on the screen at their current position.
      * Includes rendering the sprite and the remaining wait time.
      * @param g Graphics object to render the customer
      */
     public void draw(Graphics g) {
-        if (spriteSheet != null) {
-            BufferedImage currentSprite = null;
-
-            // determine which sprite to draw
-            switch (facing) {
-                case DOWN:
-                    currentSprite = frontSprites[currentFrame];
-                    break;
-                case UP:
-                    currentSprite = backSprites[currentFrame];
-                    break;
-                case SIDE:
-                    currentSprite = sideSprites[currentFrame];
-                    break;
-            }
+        draw(g, 1.0);
+    }
 
-            if (currentSprite != null) {
-                if (facing == Direction.SIDE && facingLeft) {
-                    // flip sprite horizontally
-                    g.drawImage(currentSprite, x + SIZE, y, -SIZE, SIZE, null);
-                } else {
-                    g.drawImage(currentSprite, x, y, SIZE, SIZE, null);
-                }
-            }
+    /**
+     * Draw the customer between their previous and current position.
+     * @param g     Graphics object to render the customer
+     * @param alpha Interpolation factor (0..1) between the last two updates
+     */
+    public void draw(Graphics g, double alpha) {
+        int x = interpolateX(alpha);
+        int y = interpolateY(alpha);
+        if (frames != null) {
+            g.drawImage(frames.getFrame(getPose(), currentFrame), x, y, null);
         } else {
             g.setColor(Color.BLUE);
             g.fillRect(x, y, SIZE, SIZE);
         }
         long remainingTimeInSeconds = getRemainingTime() / 1000;
-        String timeText = String.format("%d s", remainingTimeInSeconds);
+        timeText.setFont(g.getFont());
+        timeText.setValue(remainingTimeInSeconds);
 
         // Positioning the time label above the customer
         int textX = x + SIZE / 2 - 15; // Centered horizontally
@@ -139,38 +123,57 @@ public abstract class Customer {
 
         // Draw a circle background for the time label
         int circleRadius = 15;
-        g.setColor(Color.BLACK);
+        g.setColor(HudStyle.TIMER_BACKGROUND);
         g.fillOval(textX, textY-20, circleRadius * 2, circleRadius * 2); // 동그라미 배경
         if (remainingTimeInSeconds > 10) {
-            g.setColor(Color.WHITE);
+            g.setColor(HudStyle.TIMER_TEXT);
         }
-        else {g.setColor(Color.RED);}
-        g.drawString(timeText, textX , textY);
+        else {g.setColor(HudStyle.TIMER_URGENT_TEXT);}
+        timeText.draw(g, textX, textY);
     }
 
-    protected void decreaseSatisfaction() {
-        if (satisfactionLevel > 0) {
-            satisfactionLevel--;
-        }
+    /**
+     * Screen area covered by {@link #draw(Graphics, double)}: the sprite and the timer label above it.
+     * @param alpha Interpolation factor (0..1) between the last two updates
+     */
+    public Rectangle getBounds(double alpha) {
+        int x = interpolateX(alpha);
+        int y = interpolateY(alpha);
+        return new Rectangle(x, y - 30, SIZE, SIZE + 30);
     }
+
     /**
-     * Evaluates the food based on the customer's menu order and the provided ingredients.
+     * A value that changes whenever the customer looks different at the same position:
+     * animation frame, facing or the seconds shown on the timer label.
      */
-    public int evaluateFood(String menu, List<String> ingredients) {
-        if (!orderedMenus.contains(menu)) {
-            return -1;
+    public long getAppearance() {
+        return (getRemainingTime() / 1000) << 8 | currentFrame << 3 | facing.ordinal() << 1 | (facingLeft ? 1 : 0);
+    }
+
+    /**
+     * Which of the atlas poses matches the direction the customer faces.
+     */
+    protected SpriteAtlas.Pose getPose() {
+        switch (facing) {
+            case UP:
+                return SpriteAtlas.Pose.BACK;
+            case SIDE:
+                return facingLeft ? SpriteAtlas.Pose.LEFT : SpriteAtlas.Pose.RIGHT;
+            default:
+                return SpriteAtlas.Pose.FRONT;
         }
-        updateSatisfaction(ingredients);
-        return calculateReward();
     }
 
-    // Getter/Setter methods for customer properties
-    public List<String> getOrderedMenus() { return orderedMenus; }
-    public int getSatisfactionLevel() { return satisfactionLevel; }
-    public boolean isWaiting() { return isWaiting; }
+    protected int interpolateX(double alpha) {
+        return (int) Math.round(prevX + (x - prevX) * alpha);
+    }
+
+    protected int interpolateY(double alpha) {
+        return (int) Math.round(prevY + (y - prevY) * alpha);
+    }
+
     public int getX() { return x; }
     public int getY() { return y; }
-    public int getCurrentWaitingTime() { return currentWaitingTime; }
 
     /**
      * Checks if the given mouse coordinates are within the customer’s bounds.
@@ -178,4 +181,4 @@ public abstract class Customer {
     public boolean contains(int mouseX, int mouseY) {
         return mouseX >= x && mouseX <= x + SIZE && mouseY >= y && mouseY <= y + SIZE;
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,13 @@
 package game.entity;
 
+import game.asset.SpriteAtlas;
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-
-import java.io.File;
-import java.io.IOException;
 
 public class PlayerRenderer {
     private int x, y;
+    private int prevX, prevY; // Position before the last update, for interpolated drawing
     private static final int SIZE = 40;
-    private BufferedImage spriteSheet;
-    private BufferedImage[] frontSprites;
-    private BufferedImage[] backSprites;
-    private BufferedImage[] sideSprites;
+    private SpriteAtlas.CharacterFrames frames; // Shared animation frames, null if the sheet is missing
     private int currentFrame = 0;
     private int animationDelay = 0;
     private static final int ANIMATION_SPEED = 8;
@@ -24,6 +18,8 @@ public class PlayerRenderer {
     private double targetY;
     private static final double MOVEMENT_SPEED = 6.0;
     private boolean isMovingToTarget = false;
+    private int worldWidth = 800;  // Area the player can walk in
+    private int worldHeight = 600;
 
     // Enum to represent the possible directions the player can face
     private enum Direction {
@@ -34,44 +30,22 @@ public class PlayerRenderer {
     public PlayerRenderer(int x, int y) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.targetX = x;
         this.targetY = y;
         loadSprites(); // Load the sprite sheet and create individual sprites for different directions
     }
 
-    // Loads the sprite sheet and extracts individual sprites for each animation direction
+    // Takes the player's animation frames from the shared sprite atlas
     private void loadSprites() {
-        try {
-            File file = new File("sprites/player/player.png");
-            if (file.exists()) {
-                spriteSheet = ImageIO.read(file);
-                int frameWidth = spriteSheet.getWidth() / 3;
-                int frameHeight = spriteSheet.getHeight() / 4;
-                
-                // Initialize sprite arrays for each direction
-                frontSprites = new BufferedImage[4];
-                backSprites = new BufferedImage[4];
-                sideSprites = new BufferedImage[4];
-
-                // Extract front (downward) facing sprites
-                for (int i = 0; i < 4; i++) {
-                    frontSprites[i] = spriteSheet.getSubimage(0, i * frameHeight, frameWidth, frameHeight);
-                }
-
-                // Extract back (upward) facing sprites
-                for (int i = 0; i < 4; i++) {
-                    backSprites[i] = spriteSheet.getSubimage(frameWidth, i * frameHeight, frameWidth, frameHeight);
-                }
-
-                // Extract side (left/right) facing sprites
-                for (int i = 0; i < 4; i++) {
-                    sideSprites[i] = spriteSheet.getSubimage(frameWidth * 2, i * frameHeight, frameWidth, frameHeight);
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("Error loading sprite: " + e.getMessage());
-            spriteSheet = null;
-        }
+        frames = SpriteAtlas.getInstance().getCharacter(SpriteAtlas.PLAYER_SHEET);
+    }
+
+    // Sets the size of the area the player can walk in
+    public void setWorldBounds(int worldWidth, int worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
     }
 
     // Moves the player by dx and dy (change in x and y)
@@ -89,9 +63,9 @@ public class PlayerRenderer {
             targetX = nextTileX * SIZE + (SIZE - this.SIZE) / 2;
             targetY = nextTileY * SIZE + (SIZE - this.SIZE) / 2;
 
-            // Keep the player within the bounds of the screen
-            targetX = Math.max(0, Math.min(targetX, 800 - SIZE));
-            targetY = Math.max(0, Math.min(targetY, 600 - SIZE));
+            // Keep the player within the bounds of the world
+            targetX = Math.max(0, Math.min(targetX, worldWidth - SIZE));
+            targetY = Math.max(0, Math.min(targetY, worldHeight - SIZE));
 
             isMovingToTarget = true;
 
@@ -107,6 +81,8 @@ public class PlayerRenderer {
 
     // Updates the player's position towards the target and manages animation
     public void update() {
+        prevX = x;
+        prevY = y;
         if (isMovingToTarget) {
             double dx = targetX - x;
             double dy = targetY - y;
@@ -142,31 +118,16 @@ public class PlayerRenderer {
 
     // Draws the player at its current position with the correct animation
     public void draw(Graphics g) {
-        if (spriteSheet != null) {
-            BufferedImage currentSprite = null;
-
-            // Select the correct sprite based on the direction the player is facing
-            switch (facing) {
-                case DOWN:
-                    currentSprite = frontSprites[currentFrame];
-                    break;
-                case UP:
-                    currentSprite = backSprites[currentFrame];
-                    break;
-                case SIDE:
-                    currentSprite = sideSprites[currentFrame];
-                    break;
-            }
+        draw(g, 1.0);
+    }
 
-            // Draw the sprite on the screen, flipping it horizontally if facing left
-            if (currentSprite != null) {
-                if (facing == Direction.SIDE && facingLeft) {
-                    // flip sprite horizontally
-                    g.drawImage(currentSprite, x + SIZE, y, -SIZE, SIZE, null);
-                } else {
-                    g.drawImage(currentSprite, x, y, SIZE, SIZE, null);
-                }
-            }
+    // Draws the player between its previous and current position (alpha 0..1) with the correct animation
+    public void draw(Graphics g, double alpha) {
+        int x = interpolateX(alpha);
+        int y = interpolateY(alpha);
+        if (frames != null) {
+            // Side frames facing left are mirrored in the atlas already
+            g.drawImage(frames.getFrame(getPose(), currentFrame), x, y, null);
         } else {
             // Fallback if sprite sheet is not loaded
             g.setColor(Color.RED);
@@ -174,6 +135,36 @@ public class PlayerRenderer {
         }
     }
 
+    // Screen area covered by draw(g, alpha)
+    public Rectangle getBounds(double alpha) {
+        return new Rectangle(interpolateX(alpha), interpolateY(alpha), SIZE, SIZE);
+    }
+
+    // Changes whenever the player looks different at the same position (animation frame or facing)
+    public long getAppearance() {
+        return currentFrame << 3 | facing.ordinal() << 1 | (facingLeft ? 1 : 0);
+    }
+
+    // Atlas pose matching the direction the player faces
+    private SpriteAtlas.Pose getPose() {
+        switch (facing) {
+            case UP:
+                return SpriteAtlas.Pose.BACK;
+            case SIDE:
+                return facingLeft ? SpriteAtlas.Pose.LEFT : SpriteAtlas.Pose.RIGHT;
+            default:
+                return SpriteAtlas.Pose.FRONT;
+        }
+    }
+
+    private int interpolateX(double alpha) {
+        return (int) Math.round(prevX + (x - prevX) * alpha);
+    }
+
+    private int interpolateY(double alpha) {
+        return (int) Math.round(prevY + (y - prevY) * alpha);
+    }
+
     // Getters for player position and size
     public int getX() { return x; }
     public int getY() { return y; }
@@ -0,0 +1,42 @@
+package game.recipe;
+
+import domain.item.SpriteCache;
+import domain.recipe.Recipe;
+import game.asset.AssetRegistry;
+
+import java.awt.Image;
+
+/**
+ * Sprites of the recipes, taken from the preloaded assets ("sprites/menus" folder).
+ * They are kept out of {@link Recipe} so the recipe data, and a headless game using it,
+ * loads no AWT class. A sprite that was not preloaded is reported and left out rather
+ * than decoded during play.
+ */
+public class RecipeSprites {
+    private static RecipeSprites instance; // Singleton instance
+
+    private RecipeSprites() {
+    }
+
+    public static synchronized RecipeSprites getInstance() {
+        if (instance == null) {
+            instance = new RecipeSprites();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the sprite of a recipe scaled to the given size, served from the shared {@link SpriteCache}.
+     * @return The scaled sprite, or null if the image was not preloaded
+     */
+    public Image getSprite(Recipe recipe, int width, int height) {
+        String name = recipe.getName().toLowerCase();
+        String path = "sprites/menus/" + name + ".png";
+        Image image = AssetRegistry.getInstance().getImage(path);
+        if (image == null) {
+            System.err.println("Sprite not preloaded for recipe " + recipe.getName() + ": " + path);
+            return null;
+        }
+        return SpriteCache.getInstance().getScaled("menus/" + name, image, width, height);
+    }
+}
@@ -1,41 +1,54 @@
 package game.tile;
 
+import domain.Farm;
 import domain.item.HarvestItem;
+import domain.item.ItemType;
 
+/**
+ * View of one plot of a {@link Farm}. The tile holds no state of its own:
+ * every query reads the farm's plot store at this tile's coordinates.
+ */
 public class FarmTile {
-    private boolean tilled = false;  // tilled or not
-    private HarvestItem crop;
+    private final Farm farm;
+    private final int x;  // column in the farm grid
+    private final int y;  // row in the farm grid
 
-    public FarmTile() {
-        this.tilled = false;
-        this.crop = null;
+    public FarmTile(Farm farm, int x, int y) {
+        this.farm = farm;
+        this.x = x;
+        this.y = y;
     }
 
     public boolean isTilled() {
-        return tilled;
+        return farm.isTilled(x, y);
     }
 
     public void setTilled(boolean tilled) {
-        this.tilled = tilled;
+        farm.setTilled(x, y, tilled);
     }
 
     public boolean hasCrop() {
-        return crop != null;
+        return farm.hasCrop(x, y);
     }
 
     public String getCropName() {
-        return crop != null ? crop.getName() : null;
+        ItemType type = farm.getCropType(x, y);
+        return type != null ? type.getDisplayName() : null;
     }
 
-    public HarvestItem getCrop() {
-        return crop;
+    public ItemType getCropType() {
+        return farm.getCropType(x, y);
     }
 
-    public void setCrop(HarvestItem crop) {
-        this.crop = crop;
+    public HarvestItem getCrop() {
+        return farm.getCrop(x, y);
     }
 
     public int getGrowthProgress() {
-        return crop != null ? crop.getGrowthProgress() : 0;
+        return farm.getGrowthProgress(x, y);
     }
-}
\ No newline at end of file
+
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public Farm getFarm() { return farm; }
+}
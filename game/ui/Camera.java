@@ -0,0 +1,73 @@
+package game.ui;
+
+import java.awt.Rectangle;
+
+/**
+ * Viewport onto the game world.
+ * World coordinates are pixels on the whole map; screen coordinates are pixels in the panel,
+ * offset by the camera position. The camera keeps the point it follows in the middle of the
+ * view, clamped so that the view never shows anything outside the world. Anything whose
+ * world bounds do not intersect {@link #getView()} can be skipped while painting.
+ */
+public class Camera {
+    private final int worldWidth;
+    private final int worldHeight;
+    private volatile int x, y;                  // World position of the top left corner of the view
+    private volatile int viewWidth, viewHeight;
+
+    public Camera(int worldWidth, int worldHeight) {
+        if (worldWidth <= 0 || worldHeight <= 0) {
+            throw new IllegalArgumentException("World size must be positive: " + worldWidth + "x" + worldHeight);
+        }
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    public void setViewSize(int viewWidth, int viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * Centres the view on a world position, as far as the world edges allow.
+     */
+    public void follow(int worldX, int worldY) {
+        x = clamp(worldX - viewWidth / 2, worldWidth - viewWidth);
+        y = clamp(worldY - viewHeight / 2, worldHeight - viewHeight);
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, Math.max(0, max)));
+    }
+
+    public int toWorldX(int screenX) { return screenX + x; }
+    public int toWorldY(int screenY) { return screenY + y; }
+
+    /**
+     * Checks whether something with the given world bounds can be seen.
+     */
+    public boolean isVisible(Rectangle worldBounds) {
+        return worldBounds.x < x + viewWidth && worldBounds.x + worldBounds.width > x
+                && worldBounds.y < y + viewHeight && worldBounds.y + worldBounds.height > y;
+    }
+
+    /**
+     * @return The visible part of the world, in world coordinates
+     */
+    public Rectangle getView() {
+        return new Rectangle(x, y, viewWidth, viewHeight);
+    }
+
+    // Visible tile range, bounds inclusive
+    public int getFirstColumn(int tileSize) { return x / tileSize; }
+    public int getFirstRow(int tileSize) { return y / tileSize; }
+    public int getLastColumn(int tileSize) { return (x + viewWidth - 1) / tileSize; }
+    public int getLastRow(int tileSize) { return (y + viewHeight - 1) / tileSize; }
+
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getViewWidth() { return viewWidth; }
+    public int getViewHeight() { return viewHeight; }
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+}
@@ -4,7 +4,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.List;
 import java.util.function.Consumer;
-import game.recipe.Recipe;
+import domain.recipe.Recipe;
+import game.recipe.RecipeSprites;
 
 /**
  * A panel that displays a list of recipes as selectable dish slots.
@@ -40,7 +41,7 @@ public class ChoiceDishPanel extends JPanel {
         JLabel iconLabel = new JLabel();
         iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        Image image = recipe.getSprite(50, 50);
+        Image image = RecipeSprites.getInstance().getSprite(recipe, 50, 50);
         if (image != null) {
             iconLabel.setIcon(new ImageIcon(image));
         } else {
@@ -0,0 +1,109 @@
+package game.ui;
+
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Collects the screen area that changed since the last frame.
+ * Every drawn object is reported once per frame with its bounds and a state value that
+ * changes whenever its appearance does. The tracker compares the report with the previous
+ * frame and damages the old and new bounds of everything that moved, changed, appeared
+ * or was not reported again (it disappeared). Areas can also be damaged directly.
+ */
+class DirtyRegionTracker {
+    /**
+     * What an object looked like when it was last reported.
+     */
+    private static final class Entry {
+        final Rectangle bounds = new Rectangle();
+        long state;
+        boolean seen; // Reported during the current frame
+    }
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+    private final Rectangle damage = new Rectangle();
+    private boolean damaged;
+    private boolean fullDamage = true; // The first frame is drawn completely
+
+    /**
+     * Marks an area as changed.
+     */
+    synchronized void damage(int x, int y, int width, int height) {
+        addDamage(x, y, width, height);
+    }
+
+    /**
+     * Marks the whole screen as changed, e.g. after it was exposed or resized.
+     */
+    synchronized void damageAll() {
+        fullDamage = true;
+    }
+
+    /**
+     * Reports where an object is drawn this frame.
+     * @param key    Identifies the object across frames
+     * @param bounds Screen area covered by the object, copied by the tracker
+     * @param state  Any value that changes when the object looks different at the same place
+     */
+    synchronized void track(Object key, Rectangle bounds, long state) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(key, entry);
+        } else if (entry.state == state && entry.bounds.equals(bounds)) {
+            entry.seen = true;
+            return;
+        } else {
+            addDamage(entry.bounds.x, entry.bounds.y, entry.bounds.width, entry.bounds.height);
+        }
+        entry.bounds.setBounds(bounds);
+        entry.state = state;
+        entry.seen = true;
+        addDamage(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Ends the frame: damages the last bounds of objects that were not reported, and returns
+     * the union of all damage inside the screen, or null if nothing changed. Resets the damage.
+     */
+    synchronized Rectangle collect(int width, int height) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (!entry.seen) {
+                addDamage(entry.bounds.x, entry.bounds.y, entry.bounds.width, entry.bounds.height);
+                it.remove();
+            } else {
+                entry.seen = false;
+            }
+        }
+
+        Rectangle result = null;
+        if (fullDamage) {
+            result = new Rectangle(0, 0, width, height);
+        } else if (damaged) {
+            result = damage.intersection(new Rectangle(0, 0, width, height));
+            if (result.isEmpty()) {
+                result = null;
+            }
+        }
+        fullDamage = false;
+        damaged = false;
+        return result;
+    }
+
+    private void addDamage(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (damaged) {
+            damage.add(x, y);
+            damage.add(x + width, y + height);
+        } else {
+            damage.setBounds(x, y, width, height);
+            damaged = true;
+        }
+    }
+}
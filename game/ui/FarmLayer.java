@@ -0,0 +1,249 @@
+package game.ui;
+
+import domain.Farm;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.BitSet;
+
+/**
+ * Off-screen cache of the static part of the farm view: background, tile grid and tilled soil.
+ * The layer is kept in a {@link VolatileImage} and blitted once per frame. Only tiles whose
+ * state changed are redrawn into it: plots reported by the farm's plot listener, and the tiles
+ * entering or leaving the player's interaction range. The layer covers the tiles in view plus
+ * one spare row and column, aligned to the tile grid, so the camera can move within a tile
+ * without redrawing anything; its size and redraw cost do not depend on the size of the farm.
+ */
+class FarmLayer implements Farm.PlotChangeListener {
+    private static final Color TILE_IN_RANGE = new Color(120, 120, 100, 150);
+    private static final Color TILE_OUT_OF_RANGE = new Color(80, 80, 80, 150);
+    private static final Color TILE_BORDER = new Color(101, 67, 33, 150);
+    private static final Color TILLED_SOIL = new Color(139, 69, 19);
+    private static final Color FALLBACK_BACKGROUND = Color.GREEN.darker();
+    private static final int RANGE = 1; // Tiles around the player that can be interacted with
+
+    private final Farm farm;
+    private final int tileSize;
+    private final int worldWidth, worldHeight;
+    private final int backgroundWidth, backgroundHeight; // Size the background is scaled to, repeated over the world
+    private final Image background;      // Source background image, may be null
+    private BufferedImage scaledBackground; // Background scaled once to its repeat size
+    private VolatileImage image;
+    private int columns, rows;           // Tiles held in the layer
+    private int firstColumn, firstRow;   // World tile at the top left corner of the layer
+    private final BitSet dirtyTiles = new BitSet(); // Tile inside the layer, row * columns + column
+    private boolean fullRedraw = true;
+    private int playerTileX = Integer.MIN_VALUE; // Centre of the highlighted range
+    private int playerTileY = Integer.MIN_VALUE;
+
+    FarmLayer(Farm farm, int tileSize, int worldWidth, int worldHeight,
+              Image background, int backgroundWidth, int backgroundHeight) {
+        this.farm = farm;
+        this.tileSize = tileSize;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.backgroundWidth = backgroundWidth;
+        this.backgroundHeight = backgroundHeight;
+        this.background = background;
+        farm.addPlotChangeListener(this);
+    }
+
+    @Override
+    public synchronized void plotChanged(int x, int y) {
+        markDirty(x, y);
+    }
+
+    /**
+     * Moves the highlighted interaction range, invalidating the tiles whose highlight changes.
+     */
+    synchronized void setPlayerTile(int tileX, int tileY) {
+        if (tileX == playerTileX && tileY == playerTileY) {
+            return;
+        }
+        markRangeDirty(playerTileX, playerTileY);
+        playerTileX = tileX;
+        playerTileY = tileY;
+        markRangeDirty(tileX, tileY);
+    }
+
+    /**
+     * Reports the screen area that the next {@link #draw} will change.
+     * @param cameraX World position of the left edge of the screen
+     * @param cameraY World position of the top edge of the screen
+     */
+    synchronized void reportDamage(DirtyRegionTracker tracker, int cameraX, int cameraY) {
+        if (fullRedraw || image == null || image.contentsLost()) {
+            tracker.damageAll();
+            return;
+        }
+        for (int i = dirtyTiles.nextSetBit(0); i >= 0; i = dirtyTiles.nextSetBit(i + 1)) {
+            int x = (firstColumn + i % columns) * tileSize - cameraX;
+            int y = (firstRow + i / columns) * tileSize - cameraY;
+            tracker.damage(x, y, tileSize + 1, tileSize + 1);
+        }
+    }
+
+    boolean isInRange(int tileX, int tileY) {
+        return Math.abs(tileX - playerTileX) <= RANGE && Math.abs(tileY - playerTileY) <= RANGE;
+    }
+
+    /**
+     * Brings the layer up to date and draws the part the camera sees.
+     * @param g      Target graphics in world coordinates, also used to pick a compatible image format
+     * @param camera Decides which tiles the layer holds
+     */
+    synchronized void draw(Graphics g, Camera camera) {
+        int viewWidth = camera.getViewWidth();
+        int viewHeight = camera.getViewHeight();
+        if (viewWidth <= 0 || viewHeight <= 0) {
+            return;
+        }
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        int neededColumns = (viewWidth + tileSize - 1) / tileSize + 1;
+        int neededRows = (viewHeight + tileSize - 1) / tileSize + 1;
+        if (neededColumns != columns || neededRows != rows) {
+            resize(neededColumns, neededRows);
+        }
+        int column = camera.getFirstColumn(tileSize);
+        int row = camera.getFirstRow(tileSize);
+        if (column != firstColumn || row != firstRow) {
+            // The camera crossed a tile edge, the layer now holds other tiles
+            firstColumn = column;
+            firstRow = row;
+            fullRedraw = true;
+        }
+        do {
+            if (image == null) {
+                image = gc.createCompatibleVolatileImage(columns * tileSize, rows * tileSize);
+                fullRedraw = true;
+            }
+            int status = image.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                image.flush();
+                image = gc.createCompatibleVolatileImage(columns * tileSize, rows * tileSize);
+                fullRedraw = true;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                fullRedraw = true;
+            }
+            redraw();
+            g.drawImage(image, firstColumn * tileSize, firstRow * tileSize, null);
+        } while (image.contentsLost());
+    }
+
+    private void resize(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+        dirtyTiles.clear();
+        fullRedraw = true;
+    }
+
+    /**
+     * Redraws the invalidated part of the layer.
+     */
+    private void redraw() {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.translate(-firstColumn * tileSize, -firstRow * tileSize); // Draw in world coordinates
+            if (fullRedraw) {
+                int x = firstColumn * tileSize;
+                int y = firstRow * tileSize;
+                g.setColor(FALLBACK_BACKGROUND); // Beyond the world edge when the view is larger
+                g.fillRect(x, y, columns * tileSize, rows * tileSize);
+                drawBackground(g, x, y, Math.min(columns * tileSize, worldWidth - x),
+                        Math.min(rows * tileSize, worldHeight - y));
+                dirtyTiles.set(0, columns * rows);
+            }
+            for (int i = dirtyTiles.nextSetBit(0); i >= 0; i = dirtyTiles.nextSetBit(i + 1)) {
+                int column = firstColumn + i % columns;
+                int row = firstRow + i / columns;
+                if (!farm.contains(column, row)) {
+                    continue; // Background only, drawn by the full redraw
+                }
+                // Each tile is drawn inside its own cell, so a tile looks the same whether it is
+                // redrawn alone or with its neighbours; tiles on the far edge own the closing border
+                int w = column == farm.getWidth() - 1 ? tileSize + 1 : tileSize;
+                int h = row == farm.getHeight() - 1 ? tileSize + 1 : tileSize;
+                g.setClip(column * tileSize, row * tileSize, w, h);
+                drawBackground(g, column * tileSize, row * tileSize, w, h);
+                drawTile(g, column, row);
+            }
+        } finally {
+            g.dispose();
+        }
+        fullRedraw = false;
+        dirtyTiles.clear();
+    }
+
+    /**
+     * Fills a world area with the background, repeating it every background size.
+     */
+    private void drawBackground(Graphics2D g, int x, int y, int w, int h) {
+        if (background == null) {
+            g.setColor(FALLBACK_BACKGROUND);
+            g.fillRect(x, y, w, h);
+            return;
+        }
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        if (scaledBackground == null) {
+            // Scale once, partial redraws copy from the scaled copy
+            scaledBackground = g.getDeviceConfiguration().createCompatibleImage(backgroundWidth, backgroundHeight);
+            Graphics2D bg = scaledBackground.createGraphics();
+            bg.drawImage(background, 0, 0, backgroundWidth, backgroundHeight, null);
+            bg.dispose();
+        }
+        for (int top = y - Math.floorMod(y, backgroundHeight); top < y + h; top += backgroundHeight) {
+            for (int left = x - Math.floorMod(x, backgroundWidth); left < x + w; left += backgroundWidth) {
+                int x1 = Math.max(x, left), y1 = Math.max(y, top);
+                int x2 = Math.min(x + w, left + backgroundWidth), y2 = Math.min(y + h, top + backgroundHeight);
+                g.drawImage(scaledBackground, x1, y1, x2, y2, x1 - left, y1 - top, x2 - left, y2 - top, null);
+            }
+        }
+    }
+
+    private void drawTile(Graphics2D g, int column, int row) {
+        int x = column * tileSize;
+        int y = row * tileSize;
+
+        // Highlight interactable tiles
+        g.setColor(isInRange(column, row) ? TILE_IN_RANGE : TILE_OUT_OF_RANGE);
+        g.fillRect(x, y, tileSize, tileSize);
+
+        // Draw tile borders
+        g.setColor(TILE_BORDER);
+        g.drawRect(x, y, tileSize, tileSize);
+
+        // Draw tilled soil
+        if (farm.isTilled(column, row)) {
+            g.setColor(TILLED_SOIL);
+            g.fillRect(x + 2, y + 2, tileSize - 4, tileSize - 4);
+        }
+    }
+
+    private void markRangeDirty(int tileX, int tileY) {
+        if (tileX == Integer.MIN_VALUE) {
+            return;
+        }
+        for (int y = tileY - RANGE; y <= tileY + RANGE; y++) {
+            for (int x = tileX - RANGE; x <= tileX + RANGE; x++) {
+                markDirty(x, y);
+            }
+        }
+    }
+
+    /**
+     * Invalidates a world tile if the layer currently holds it.
+     */
+    private void markDirty(int x, int y) {
+        int column = x - firstColumn;
+        int row = y - firstRow;
+        if (column >= 0 && row >= 0 && column < columns && row < rows) {
+            dirtyTiles.set(row * columns + column);
+        }
+    }
+}
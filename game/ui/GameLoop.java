@@ -0,0 +1,119 @@
+package game.ui;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dedicated game-loop thread with fixed-timestep updates and decoupled rendering.
+ * The simulation advances in steps of exactly 1/updatesPerSecond, however long a frame
+ * took; rendering happens once per loop iteration with an interpolation factor telling
+ * how far the current time lies between the last two simulation steps.
+ */
+public class GameLoop implements Runnable {
+    /**
+     * Draws one frame.
+     */
+    public interface Renderer {
+        /**
+         * @param alpha Fraction (0..1) of a simulation step elapsed since the last update,
+         *              used to interpolate positions between the previous and current step
+         */
+        void render(double alpha);
+    }
+
+    private static final int MAX_UPDATES_PER_FRAME = 10; // Catch-up limit after a long stall
+
+    private final Runnable update;
+    private final Renderer renderer;
+    private final long stepNanos;
+    private final long frameNanos;       // Minimum time per rendered frame, 0 for uncapped
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param update           Simulation step, run updatesPerSecond times per second
+     * @param renderer         Draws a frame
+     * @param updatesPerSecond Simulation rate
+     * @param maxFramesPerSecond Render rate cap, or 0 to render as fast as possible
+     */
+    public GameLoop(Runnable update, Renderer renderer, int updatesPerSecond, int maxFramesPerSecond) {
+        if (updatesPerSecond <= 0) {
+            throw new IllegalArgumentException("Update rate must be positive: " + updatesPerSecond);
+        }
+        this.update = update;
+        this.renderer = renderer;
+        this.stepNanos = 1_000_000_000L / updatesPerSecond;
+        this.frameNanos = maxFramesPerSecond > 0 ? 1_000_000_000L / maxFramesPerSecond : 0;
+    }
+
+    /**
+     * Starts the loop on its own daemon thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Asks the loop to stop after the current frame.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long lag = 0;
+        long nextFrame = previous; // Earliest time the next frame may be rendered
+
+        while (running) {
+            long frameStart = System.nanoTime();
+            lag += frameStart - previous;
+            previous = frameStart;
+
+            // Run as many fixed steps as the elapsed time calls for
+            int updates = 0;
+            while (lag >= stepNanos && updates < MAX_UPDATES_PER_FRAME) {
+                try {
+                    update.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+                lag -= stepNanos;
+                updates++;
+            }
+            if (updates == MAX_UPDATES_PER_FRAME && lag >= stepNanos) {
+                lag = 0; // Too far behind: drop the backlog instead of spiralling
+            }
+
+            if (frameStart >= nextFrame) {
+                try {
+                    renderer.render((double) lag / stepNanos);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+                nextFrame = Math.max(nextFrame + frameNanos, frameStart);
+            }
+
+            // Sleep until the next frame is due, or the next update if that comes first
+            long wait = Math.min(frameStart + stepNanos - lag, nextFrame) - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+}
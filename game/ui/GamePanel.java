@@ -3,39 +3,74 @@ package game.ui;
 import command.*;
 import core.CommandRegistry;
 import domain.Farm;
-import domain.item.Item;
+import domain.item.ItemSprites;
+import domain.item.ItemType;
 import domain.Player;
+import domain.recipe.Recipe;
+import domain.recipe.RecipeManager;
+import game.asset.AssetRegistry;
+import game.asset.HudStyle;
+import game.asset.HudText;
+import game.asset.SpriteAtlas;
 import game.entity.Customer;
 import game.entity.NormalCustomer;
 import game.entity.PlayerRenderer;
-import game.recipe.Recipe;
-import game.recipe.RecipeManager;
 import game.tile.FarmTile;
+import perf.PerfMonitor;
+import sim.Simulation;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.image.ImageObserver;
+import java.awt.image.BufferStrategy;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 
 /**
  * Main game panel that handles rendering and user interaction for the farming game.
+ * The panel is a heavyweight Canvas drawn actively by the game loop through a
+ * BufferStrategy; AWT repaints are only honoured until the loop renders its first frame.
+ * The farm, customers and player live in world coordinates and are seen through a
+ * {@link Camera} that follows the player; only what the camera sees is visited and drawn.
+ * The HUD is drawn in screen coordinates on top.
  */
-public class GamePanel extends JPanel {
+public class GamePanel extends Canvas {
     private GameWindow gameWindow;
+    private Simulation simulation;
     private CommandRegistry registry;
     private PlayerRenderer playerRenderer;
     private Player player;
     private Farm farm;
     private List<Customer> customers;
-    private Item selectedItem;
+    private volatile ItemType selectedItem; // Chosen on the EDT, drawn by the render thread
     private InventoryPanel inventoryPanel;
 
     private static final int TILE_SIZE = 40;
-    private FarmTile[][] tiles;
+    private static final int MIN_WORLD_WIDTH = 800;  // The world is at least as large as the default view,
+    private static final int MIN_WORLD_HEIGHT = 600; // which is also the size the background repeats at
+    private static final int MONEY_BASELINE = 30;
+    private static final Object MONEY_HUD = "money";              // Damage tracking keys of the HUD parts
+    private static final Object SELECTED_ITEM_HUD = "selectedItem";
+    private static final Object PERF_OVERLAY = "perfOverlay";
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 160);
+    private static final int OVERLAY_LINE_HEIGHT = 15;
+    private static final String BACKGROUND_PATH = "sprites/background/background.png";
     private Image backgroundImage;
+    private final FarmLayer farmLayer; // Cached background, tile grid and soil
+    private final Camera camera;
+    private int renderedCameraX = Integer.MIN_VALUE, renderedCameraY; // Camera position of the last frame
+    private final DirtyRegionTracker damage = new DirtyRegionTracker(); // Screen area changed since the last frame
+    private int renderedWidth, renderedHeight; // Size of the last actively rendered frame
+    private PerfMonitor perfMonitor;
+    private volatile boolean perfOverlayVisible;
+    private int perfOverlayVersion; // Bumped whenever the overlay text changes
+    private final Supplier<String> entityCounts = () ->
+            "customers " + customers.size() + "  crops " + farm.getCropCount() + "  ready " + farm.getReadyCount();
+    private final HudText moneyText = new HudText(HudStyle.MONEY_FONT,
+            cents -> String.format("€ %.2f", cents / 100.0)); // Money in cents, laid out when it changes
+    private volatile boolean activeRendering; // true once the game loop draws the frames
 
     /**
      * Enum for defining different input types and their associated commands.
@@ -91,12 +126,12 @@ public class GamePanel extends JPanel {
             this.y = y;
         }
 
-        public static Position fromMouseEvent(MouseEvent e, int tileSize) {
-            return new Position(e.getX() / tileSize, e.getY() / tileSize);
+        public static Position fromMouseEvent(MouseEvent e, Camera camera, int tileSize) {
+            return new Position(camera.toWorldX(e.getX()) / tileSize, camera.toWorldY(e.getY()) / tileSize);
         }
 
-        public boolean isValidFarmPosition() {
-            return x < 8 && y < 6; // Ensure position is within farm boundaries
+        public boolean isValidFarmPosition(Farm farm) {
+            return farm.contains(x, y); // Ensure position is within farm boundaries
         }
     }
 
@@ -104,38 +139,53 @@ public class GamePanel extends JPanel {
      * Checks if a tile is interactable based on proximity to the player
      */
     private boolean isInteractable(int tileX, int tileY) {
-        int playerCenterX = playerRenderer.getX() + (playerRenderer.getSize() / 2);
-        int playerCenterY = playerRenderer.getY() + (playerRenderer.getSize() / 2);
-        int playerTileX = playerCenterX / TILE_SIZE;
-        int playerTileY = playerCenterY / TILE_SIZE;
+        return Math.abs(tileX - getPlayerTileX()) <= 1 &&
+               Math.abs(tileY - getPlayerTileY()) <= 1;
+    }
+
+    private int getPlayerTileX() {
+        return (playerRenderer.getX() + (playerRenderer.getSize() / 2)) / TILE_SIZE;
+    }
 
-        return Math.abs(tileX - playerTileX) <= 1 &&
-               Math.abs(tileY - playerTileY) <= 1;
+    private int getPlayerTileY() {
+        return (playerRenderer.getY() + (playerRenderer.getSize() / 2)) / TILE_SIZE;
     }
 
     /**
      * Constructor initializes the game panel and sets event listeners.
      */
-    public GamePanel(PlayerRenderer playerRenderer, Player player, Farm farm, CommandRegistry registry, List<Customer> customers) {
+    public GamePanel(Simulation simulation, PlayerRenderer playerRenderer, CommandRegistry registry, List<Customer> customers) {
+        this.simulation = simulation;
         this.playerRenderer = playerRenderer;
-        this.player = player;
-        this.farm = farm;
+        this.player = simulation.getPlayer();
+        this.farm = simulation.getFarm();
         this.registry = registry;
         this.customers = customers;
         this.inventoryPanel = new InventoryPanel(player, this);
 
-        initializeTiles(); // Create the farm tile grid
         setupMouseListener(); // Handle mouse interactions
         setupKeyListener(); // Handle keyboard interaction
         setFocusable(true); // Ensure the panel can receive keyboard focus
         setBackground(Color.GREEN.darker());
 
+        int worldWidth = Math.max(MIN_WORLD_WIDTH, farm.getWidth() * TILE_SIZE);
+        int worldHeight = Math.max(MIN_WORLD_HEIGHT, farm.getHeight() * TILE_SIZE);
+        camera = new Camera(worldWidth, worldHeight);
+        playerRenderer.setWorldBounds(worldWidth, worldHeight);
+
         loadBackgroundImage();
+        farmLayer = new FarmLayer(farm, TILE_SIZE, worldWidth, worldHeight,
+                backgroundImage, MIN_WORLD_WIDTH, MIN_WORLD_HEIGHT);
     }
 
     private void loadBackgroundImage() {
+        backgroundImage = AssetRegistry.getInstance().getImage(BACKGROUND_PATH);
+        if (backgroundImage != null) {
+            return;
+        }
+        System.out.println("Background not preloaded, reading " + BACKGROUND_PATH);
         try {
-            backgroundImage = ImageIO.read(new File("sprites/background/background2.png"));
+            backgroundImage = ImageIO.read(new File(BACKGROUND_PATH));
         } catch (IOException e) {
             e.printStackTrace();
             backgroundImage = null;
@@ -143,11 +193,35 @@ public class GamePanel extends JPanel {
 
     }
 
-    public void setSelectedItem(Item item) {
+    public void setSelectedItem(ItemType item) {
         this.selectedItem = item;
         repaint();
     }
 
+    public void setPerfMonitor(PerfMonitor perfMonitor) {
+        this.perfMonitor = perfMonitor;
+    }
+
+    /**
+     * Shows or hides the performance overlay with frame timings and entity counts.
+     */
+    public void togglePerfOverlay() {
+        perfOverlayVisible = perfMonitor != null && !perfOverlayVisible;
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Centres the camera on the player as drawn with the given interpolation factor.
+     */
+    private void updateCamera(double alpha) {
+        camera.setViewSize(getWidth(), getHeight());
+        Rectangle player = playerRenderer.getBounds(alpha);
+        camera.follow(player.x + player.width / 2, player.y + player.height / 2);
+    }
+
     public InventoryPanel getInventoryPanel() {
         return inventoryPanel;
     }
@@ -161,15 +235,6 @@ public class GamePanel extends JPanel {
         }
     }
 
-    private void initializeTiles() {
-        tiles = new FarmTile[8][6];
-        for (int i = 0; i < 8; i++) {
-            for (int j = 0; j < 6; j++) {
-                tiles[i][j] = new FarmTile();
-            }
-        }
-    }
-
     private void setupMouseListener() {
         addMouseListener(new MouseAdapter() {
             @Override
@@ -189,7 +254,7 @@ public class GamePanel extends JPanel {
                     Command command;
                     if (inputType == InputType.KEY_SPACE) {
                         // Create a special command for harvesting
-                        command = new HarvestCommand(player, farm, tiles, playerRenderer, GamePanel.this);
+                        command = new HarvestCommand(simulation, playerRenderer, GamePanel.this);
                     } else {
                         // Retrieve a command from the registry
                         command = registry.getCommand(inputType.getCommandName());
@@ -208,15 +273,15 @@ public class GamePanel extends JPanel {
      * Handles mouse clicks, (e.g.) tilling, planting
      */
     private void handleMouseClick(MouseEvent e) {
-        Position clickPosition = Position.fromMouseEvent(e, TILE_SIZE);
+        Position clickPosition = Position.fromMouseEvent(e, camera, TILE_SIZE);
 
-        if (!clickPosition.isValidFarmPosition()) {
+        if (!clickPosition.isValidFarmPosition(farm)) {
             return; // Ignore clicks outside the farm boundaries
         }
 
         InputType inputType = InputType.fromMouseButton(e.getButton());
         if (inputType != null) {
-            FarmTile tile = tiles[clickPosition.x][clickPosition.y];
+            FarmTile tile = new FarmTile(farm, clickPosition.x, clickPosition.y);
 
             if (!isInteractable(clickPosition.x, clickPosition.y)) {
                 System.out.println("Too far away!");
@@ -237,7 +302,7 @@ public class GamePanel extends JPanel {
                 return new TillCommand(tile); // Command to till the tile
             case MOUSE_RIGHT:
                 if (selectedItem != null) {
-                    return new PlantCommand(player, farm, tile, selectedItem.getName(), this);
+                    return new PlantCommand(player, farm, tile, selectedItem.getDisplayName(), this);
                 } else {
                     JOptionPane.showMessageDialog(this, "Please select a valid crop to plant.", "No Crop Selected", JOptionPane.WARNING_MESSAGE);
                     return null; // No valid item selected
@@ -247,79 +312,188 @@ public class GamePanel extends JPanel {
         }
     }
 
-    /**
-     * Paints the game panel, including tiles, player, customers, and HUD elements.
-     */
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2); // Back buffer for active rendering
+    }
 
-        // Draw the background
-        if (backgroundImage != null){
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), (ImageObserver) null);
-        } else {
-            g.setColor(Color.GREEN.darker());
-            g.fillRect(0,0, getWidth(), getHeight());
+    /**
+     * Draws one frame into the back buffer and shows it. Called from the game loop thread.
+     * The frame is skipped when nothing on screen changed, and only the damaged area is
+     * redrawn when the buffer strategy keeps the back buffer between frames.
+     * @param alpha Interpolation factor between the last two simulation steps
+     */
+    public void renderFrame(double alpha) {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null || !isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        activeRendering = true;
+        long start = System.nanoTime();
+        Rectangle dirty = collectDamage(alpha);
+        if (dirty == null) {
+            if (perfMonitor != null) {
+                perfMonitor.recordSkippedFrame();
+            }
+            return; // Nothing changed since the last frame
+        }
+        Rectangle clip = keepsBackBuffer(strategy) ? dirty : null;
+        boolean lost;
+        do {
+            boolean restored;
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    if (clip != null) {
+                        g.setClip(clip);
+                    }
+                    render(g, alpha);
+                } finally {
+                    g.dispose();
+                }
+                restored = strategy.contentsRestored();
+                if (restored) {
+                    clip = null; // A restored buffer holds nothing, draw all of it
+                }
+            } while (restored);
+            strategy.show();
+            lost = strategy.contentsLost();
+            if (lost) {
+                clip = null;
+            }
+        } while (lost);
+        Toolkit.getDefaultToolkit().sync();
+        if (perfMonitor != null) {
+            perfMonitor.recordRender(System.nanoTime() - start);
         }
+    }
 
-        // Draw the farm tiles and their states
-        for (int i = 0; i < 8; i++) {
-            for (int j = 0; j < 6; j++) {
-                int x = i * TILE_SIZE;
-                int y = j * TILE_SIZE;
-                FarmTile tile = tiles[i][j];
+    /**
+     * Whether the back buffer still holds the previous frame after show(), which partial redraws rely on.
+     */
+    private static boolean keepsBackBuffer(BufferStrategy strategy) {
+        BufferCapabilities caps = strategy.getCapabilities();
+        return !caps.isPageFlipping() || caps.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+    }
 
-                // Highlight interactable tiles
-                if (isInteractable(i, j)) {
-                    g.setColor(new Color(120,120, 100, 150));
-                } else {
-                    g.setColor(new Color(80, 80, 80, 150));
-                }
-                g.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+    /**
+     * Reports everything drawn this frame to the damage tracker and returns the changed area,
+     * or null if the screen would look the same as the last frame. World objects are reported
+     * in screen coordinates; objects the camera cannot see are left out.
+     */
+    private Rectangle collectDamage(double alpha) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width != renderedWidth || height != renderedHeight) {
+            renderedWidth = width;
+            renderedHeight = height;
+            damage.damageAll();
+        }
+        updateCamera(alpha);
+        int cameraX = camera.getX();
+        int cameraY = camera.getY();
+        if (cameraX != renderedCameraX || cameraY != renderedCameraY) {
+            renderedCameraX = cameraX;
+            renderedCameraY = cameraY;
+            damage.damageAll(); // The whole world view scrolled
+        }
 
-                // Draw tile borders
-                g.setColor(new Color(101, 67, 33, 150));
-                g.drawRect(x, y, TILE_SIZE, TILE_SIZE);
+        farmLayer.setPlayerTile(getPlayerTileX(), getPlayerTileY());
+        farmLayer.reportDamage(damage, cameraX, cameraY);
+
+        farm.forEachCropIn(camera.getFirstColumn(TILE_SIZE), camera.getFirstRow(TILE_SIZE),
+                camera.getLastColumn(TILE_SIZE), camera.getLastRow(TILE_SIZE), (i, j) -> {
+            ItemType cropType = farm.getCropType(i, j);
+            if (cropType != null) {
+                int growthProgress = Math.min(100, Math.max(0, farm.getGrowthProgress(i, j)));
+                damage.track((long) i << 32 | j,
+                        new Rectangle(i * TILE_SIZE - cameraX, j * TILE_SIZE - cameraY, TILE_SIZE, TILE_SIZE),
+                        (long) cropType.ordinal() << 8 | growthProgress);
+            }
+        });
 
-                // Draw tilled soil
-                if (tile.isTilled()) {
-                    g.setColor(new Color(139, 69, 19));
-                    g.fillRect(x + 2, y + 2, TILE_SIZE - 4, TILE_SIZE - 4);
-                }
+        for (Customer customer : customers) {
+            Rectangle bounds = customer.getBounds(alpha);
+            if (camera.isVisible(bounds)) {
+                bounds.translate(-cameraX, -cameraY);
+                damage.track(customer, bounds, customer.getAppearance());
+            }
+        }
+        Rectangle playerBounds = playerRenderer.getBounds(alpha);
+        playerBounds.translate(-cameraX, -cameraY);
+        damage.track(playerRenderer, playerBounds, playerRenderer.getAppearance());
 
-                // Draw crops based on their growth progress
-                if (tile.hasCrop()) {
-                    int growthProgress = Math.min(100, Math.max(0, tile.getGrowthProgress()));
-                    int size = calculateCropSize(growthProgress);
-                    int alpha = Math.min(255, Math.max(0, calculateCropAlpha(growthProgress)));
+        ItemType item = selectedItem;
+        damage.track(SELECTED_ITEM_HUD, new Rectangle(10, height - 60, 150, 60), item == null ? -1 : item.ordinal());
 
-                    Image cropSprite = tile.getCrop().getSprite(size, size);
+        long cents = Math.round(player.getMoney() * 100);
+        moneyText.setValue(cents);
+        damage.track(MONEY_HUD, getMoneyBounds(), cents);
 
-                    int cropX = x + (TILE_SIZE - size) / 2;
-                    int cropY = y + (TILE_SIZE - size) / 2;
+        if (perfOverlayVisible) {
+            if (perfMonitor.sample(entityCounts)) {
+                perfOverlayVersion++;
+            }
+            damage.track(PERF_OVERLAY, getPerfOverlayBounds(), perfOverlayVersion);
+        }
 
-                    Graphics2D g2d = (Graphics2D) g;
-                    AlphaComposite alphaComposite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha/255.0f);
-                    g2d.setComposite(alphaComposite);
+        return damage.collect(width, height);
+    }
 
-                    g2d.drawImage(cropSprite, cropX, cropY, null);
+    @Override
+    public void update(Graphics g) {
+        paint(g); // Skip the default clear, render() fills the whole area
+    }
 
-                    g2d.setComposite(AlphaComposite.SrcOver);
+    @Override
+    public void paint(Graphics g) {
+        if (!activeRendering) {
+            render(g, 1.0);
+        } else {
+            damage.damageAll(); // Exposed by the window system, the next frame redraws everything
+        }
+    }
 
-                    drawProgressBar(g, x, y, TILE_SIZE, growthProgress);
-                }
-            }
+    /**
+     * Paints the game panel, including tiles, player, customers, and HUD elements.
+     * Also used to draw into offscreen images, e.g. by the headless render benchmark.
+     * @param g     Target graphics in screen coordinates; only its clip area is redrawn
+     * @param alpha Interpolation factor used to place moving entities between simulation steps
+     */
+    public void render(Graphics g, double alpha) {
+        updateCamera(alpha);
+        int cameraX = camera.getX();
+        int cameraY = camera.getY();
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.translate(-cameraX, -cameraY); // The world is drawn in world coordinates
+
+        // Background, tile grid and soil come from the cached layer
+        farmLayer.setPlayerTile(getPlayerTileX(), getPlayerTileY());
+        farmLayer.draw(g, camera);
+
+        // Draw crops based on their growth progress, visiting only the plots inside the painted area
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = camera.getView();
         }
+        farm.forEachCropIn(clip.x / TILE_SIZE, clip.y / TILE_SIZE,
+                (clip.x + clip.width) / TILE_SIZE, (clip.y + clip.height) / TILE_SIZE,
+                (i, j) -> drawCrop(g2d, i, j));
 
-        // Draw customers
+        // Draw the customers in view
         if (customers != null) {
             for (Customer customer : customers) {
-                customer.draw(g);
+                if (camera.isVisible(customer.getBounds(alpha))) {
+                    customer.draw(g, alpha);
+                }
             }
         }
 
         // Draw the player
-        playerRenderer.draw(g);
+        playerRenderer.draw(g, alpha);
+
+        g2d.translate(cameraX, cameraY); // Back to screen coordinates for the HUD
 
         // Draw the selected item
         if (selectedItem != null) {
@@ -327,67 +501,78 @@ public class GamePanel extends JPanel {
             int y = getHeight() - 60; // 아래 여백
             int size = 40;
 
-            Image itemSprite = selectedItem.getSprite(size, size);
+            Image itemSprite = ItemSprites.getInstance().getSprite(selectedItem, size, size);
             g.drawImage(itemSprite, x, y, null);
             g.setColor(Color.BLACK);
-            g.drawString(selectedItem.getName(), x, y + size + 15);
+            g.drawString(selectedItem.getDisplayName(), x, y + size + 15);
         }
 
         // Draw money display
-        g.setColor(new Color(0, 0, 0, 180));
-        g.setFont(new Font("Arial", Font.BOLD, 16));
-        String moneyText = String.format("€ %.2f", player.getMoney());
-        FontMetrics metrics = g.getFontMetrics();
-        int moneyWidth = metrics.stringWidth(moneyText);
-        int moneyX = getWidth() - moneyWidth - 20;
-        int moneyY = 30;
+        moneyText.setValue(Math.round(player.getMoney() * 100));
+        Rectangle moneyBox = getMoneyBounds();
 
-        g.setColor(new Color(255, 255, 255, 180));
-        g.fillRect(moneyX - 5, moneyY - metrics.getAscent(), moneyWidth + 10, metrics.getHeight());
+        g.setColor(HudStyle.MONEY_BACKGROUND);
+        g.fillRect(moneyBox.x, moneyBox.y, moneyBox.width, moneyBox.height);
 
-        g.setColor(new Color(0, 100, 0));
-        g.drawString(moneyText, moneyX, moneyY);
+        g.setColor(HudStyle.MONEY_TEXT);
+        moneyText.draw(g, moneyBox.x + 5, MONEY_BASELINE);
 
-        for (Customer customer : customers) {
-            customer.draw(g);
+        if (perfOverlayVisible) {
+            drawPerfOverlay(g);
         }
     }
 
-    private int calculateCropSize(int growthProgress) {
-        int maxCropSize = TILE_SIZE - 10; // Crop size at full growth
-        return maxCropSize * growthProgress / 100;
+    private Rectangle getPerfOverlayBounds() {
+        return new Rectangle(5, 5, 280, perfMonitor.getLines().length * OVERLAY_LINE_HEIGHT + 10);
     }
 
-    private int calculateCropAlpha(int growthProgress) {
-        return 255 * growthProgress / 100; // Full opacity at full growth
+    /**
+     * Draws the lines of the last performance sample in the top left corner.
+     */
+    private void drawPerfOverlay(Graphics g) {
+        String[] lines = perfMonitor.getLines();
+        Rectangle box = getPerfOverlayBounds();
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fillRect(box.x, box.y, box.width, box.height);
+        g.setFont(HudStyle.OVERLAY_FONT);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], box.x + 5, box.y + (i + 1) * OVERLAY_LINE_HEIGHT);
+        }
     }
 
     /**
-     * Draws a progress bar to indicate the growth progress of a crop.
+     * Box behind the money display, at the top right corner.
      */
-    private void drawProgressBar(Graphics g, int x, int y, int tileSize, int progress) {
-        int barHeight = 4;
-        int barWidth = tileSize - 6;
-        int barX = x + 3;
-        int barY = y + tileSize - barHeight - 3;
-
-        g.setColor(new Color(100, 100, 100, 180));
-        g.fillRect(barX, barY, barWidth, barHeight);
-
-        int progressWidth = (int)((barWidth * progress) / 100.0);
-
-        // Green for the progress bar
-        g.setColor(new Color(50, 205, 50, 230));
-        g.fillRect(barX, barY, progressWidth, barHeight);
+    private Rectangle getMoneyBounds() {
+        int moneyWidth = moneyText.getWidth();
+        int moneyX = getWidth() - moneyWidth - 20;
+        return new Rectangle(moneyX - 5, MONEY_BASELINE - moneyText.getAscent(), moneyWidth + 10, moneyText.getHeight());
+    }
 
-        // Border of the progress bar
-        g.setColor(new Color(0, 0, 0, 180));
-        g.drawRect(barX, barY, barWidth, barHeight);
+    private void drawCrop(Graphics2D g2d, int i, int j) {
+        ItemType cropType = farm.getCropType(i, j);
+        if (cropType == null) {
+            return; // Harvested while the frame was being drawn
+        }
+        int x = i * TILE_SIZE;
+        int y = j * TILE_SIZE;
+        int growthProgress = Math.min(100, Math.max(0, farm.getGrowthProgress(i, j)));
+
+        // The growth stage frame is already scaled and faded, so it is drawn as it is
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        Image cropSprite = atlas.getCrop(cropType).getFrame(growthProgress);
+        int offset = (TILE_SIZE - SpriteAtlas.CROP_SIZE) / 2;
+        g2d.drawImage(cropSprite, x + offset, y + offset, null);
+
+        // Progress bar along the bottom of the tile
+        g2d.drawImage(atlas.getProgressBar(growthProgress),
+                x + 3, y + TILE_SIZE - SpriteAtlas.PROGRESS_BAR_HEIGHT - 3, null);
     }
 
     private void handleCustomerClick(MouseEvent e) {
         // 1. Find the customer at the clicked position
-        Customer customer = findCustomerAtPosition(e.getX(), e.getY());
+        Customer customer = findCustomerAtPosition(camera.toWorldX(e.getX()), camera.toWorldY(e.getY()));
         if (customer == null) {
             return; // Exit if no customer is found at the click position
         }
@@ -395,6 +580,10 @@ public class GamePanel extends JPanel {
         showDishSelectionDialog(customer);
     }
 
+    /**
+     * @param x World x position
+     * @param y World y position
+     */
     private Customer findCustomerAtPosition(int x, int y) {
         for (Customer customer : customers) {
             if (customer.contains(x, y)) {
@@ -4,25 +4,44 @@ import javax.swing.*;
 import java.awt.event.*;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import core.CommandRegistry;
+import core.RngService;
+import core.ScaledClock;
 import domain.Farm;
 import domain.Player;
+import domain.item.ShopItemManager;
 import game.entity.PlayerRenderer;
 import game.entity.Customer;
 import game.entity.NormalCustomer;
-import game.recipe.Recipe;
-import game.recipe.RecipeManager;
-
+import perf.PerfMonitor;
+import sim.SimCustomer;
+import sim.Simulation;
+
+/**
+ * Main window of the game: a view over a {@link Simulation}, which the game loop ticks in
+ * real time. The window shows the farm, the inventory and the shop, and turns key presses
+ * into player movement.
+ * <p>
+ * Game time follows a {@link ScaledClock} over the game loop's steps, so it can be paused
+ * (Escape), sped up or slowed down ("]" and "["), or skipped to the next ripe crop (N).
+ */
 public class GameWindow extends JFrame {
+    private static final int UPDATES_PER_SECOND = 60;
+    private static final double MIN_SPEED = 0.25;
+    private static final double MAX_SPEED = 64;
     private GamePanel gamePanel;
     private PlayerRenderer playerRenderer;
+    private final Simulation simulation = new Simulation(RngService.newSessionSeed()); // Game rules and game time
+    private volatile long updates; // Game loop steps so far, written by the loop thread
+    private final ScaledClock clock = new ScaledClock(() -> updates * 1000 / UPDATES_PER_SECOND, 1.0); // Game time, can be paused or sped up
+    private long tickedMillis; // Game time the simulation has been ticked to
     private Player player;
     private Farm farm;
-    private boolean[] keyState = new boolean[256];
+    private final AtomicIntegerArray keyState = new AtomicIntegerArray(256); // 1 while a key is held; set on the EDT, read by the game loop
     private InventoryPanel inventoryPanel;
     private ShopPanel shopPanel;
     private JPanel mainContainer;
@@ -30,32 +49,34 @@ public class GameWindow extends JFrame {
     private boolean isInventoryVisible = false;
     private boolean isShopVisible = false;
 
-    private List<Customer> customers;
-    private static final int CUSTOMER_SPAWN_Y = 600;
-    private static final int CUSTOMER_TARGET_Y = 300;
-    private Random random = new Random();
-
-    private Timer customerSpawnTimer;
-    private boolean isCustomerPresent = false;
-    private int customerCount = 0;
+    private List<Customer> customers; // Views of the simulated customers, updated by the game loop
+    private GameLoop gameLoop;
+    private final PerfMonitor perfMonitor = new PerfMonitor(); // Frame timings for the overlay (P key)
 
     public GameWindow() {
         setTitle("Farming Game");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(false);
+        System.out.println("Session seed: " + simulation.getRng().getSeed());
 
         // Initialize main container with BorderLayout
         mainContainer = new JPanel(new BorderLayout());
-        customers = new ArrayList<>();
-        player = new Player(20);
+        customers = new CopyOnWriteArrayList<>();
+        player = simulation.getPlayer();
         playerRenderer = new PlayerRenderer(50, 50);
-        farm = new Farm();
+        farm = simulation.getFarm();
+        setupCustomerViews();
 
         // Command registry setup
-        CommandRegistry registry = new CommandRegistry(player, farm);
+        CommandRegistry registry = new CommandRegistry(simulation);
         registry.registerDefaults();
-        gamePanel = new GamePanel(playerRenderer, player, farm, registry, customers);
+        gamePanel = new GamePanel(simulation, playerRenderer, registry, customers);
         gamePanel.setGameWindow(this);
+        gamePanel.setPerfMonitor(perfMonitor);
+        String frameTimesCsv = System.getProperty("perf.csv"); // e.g. -Dperf.csv=frame-times.csv
+        if (frameTimesCsv != null) {
+            perfMonitor.writeCsvOnExit(frameTimesCsv);
+        }
         mainContainer.add(gamePanel, BorderLayout.CENTER);
 
         // Initialize inventory and shop panels
@@ -119,6 +140,9 @@ public class GameWindow extends JFrame {
         if (shopPanel != null) {
             isShopVisible = !isShopVisible;
             shopPanel.setVisible(isShopVisible);
+            if (isShopVisible) {
+                shopPanel.updateShop(ShopItemManager.getCatalog()); // No-op unless the stock changed
+            }
 
             if (isShopVisible) {
                 setSize(1100, 600);  // 샵이 보일 때 크기
@@ -136,28 +160,27 @@ public class GameWindow extends JFrame {
 
 
     private void setupTimers() {
-        Timer gameTimer = new Timer(16, e -> {
+        // Fixed 60 updates per second (movement speeds are per tick), rendering capped at 60 FPS;
+        // every update advances the game by the game time the clock moved during the step
+        gameLoop = new GameLoop(() -> {
+            long start = System.nanoTime();
             updatePlayerMovement();
             playerRenderer.update();
+            updates++;
+            long gameTime = clock.currentTimeMillis();
+            simulation.tick(gameTime - tickedMillis);
+            tickedMillis = gameTime;
             updateCustomers();
-            gamePanel.repaint();
-        });
-        gameTimer.start();
-
-        customerSpawnTimer = new Timer(10000, e -> {
-            if (!isCustomerPresent && customerCount < 3) {
-                spawnNewCustomer();
-            }
-        });
-        customerSpawnTimer.start();
+            perfMonitor.recordUpdate(System.nanoTime() - start);
+        }, gamePanel::renderFrame, UPDATES_PER_SECOND, 60);
+        gameLoop.start();
     }
 
     private void setupKeyListener() {
-        keyState = new boolean[256];
         gamePanel.addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                keyState[e.getKeyCode()] = true;
+                setKeyDown(e.getKeyCode(), true);
 
                 // I key
                 if (e.getKeyCode() == KeyEvent.VK_I) {
@@ -167,11 +190,28 @@ public class GameWindow extends JFrame {
                 if (e.getKeyCode() == KeyEvent.VK_O) {
                     toggleShop();
                 }
+                // P key
+                if (e.getKeyCode() == KeyEvent.VK_P) {
+                    gamePanel.togglePerfOverlay();
+                }
+                // Game speed keys
+                if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+                    togglePause();
+                }
+                if (e.getKeyCode() == KeyEvent.VK_CLOSE_BRACKET) {
+                    setGameSpeed(clock.getSpeed() * 2);
+                }
+                if (e.getKeyCode() == KeyEvent.VK_OPEN_BRACKET) {
+                    setGameSpeed(clock.getSpeed() / 2);
+                }
+                if (e.getKeyCode() == KeyEvent.VK_N) {
+                    skipToNextRipeCrop();
+                }
             }
             
             @Override
             public void keyReleased(KeyEvent e) {
-                keyState[e.getKeyCode()] = false;
+                setKeyDown(e.getKeyCode(), false);
             }
         });
 
@@ -180,108 +220,96 @@ public class GameWindow extends JFrame {
         gamePanel.requestFocus();
     }
 
+    /**
+     * Moves the customer views to where the simulation put their customers.
+     */
     private void updateCustomers() {
-        for (int i=0; i< customers.size(); i++) {
-            Customer customer = customers.get(i);
+        long start = System.nanoTime();
+        for (Customer customer : customers) {
+            customer.savePosition();
             customer.update();
-
-            // If a customer has waited too long, remove them
-            if (customer.isWaitingTooLong()){
-                customers.remove(i);
-                System.out.println("A customer has left due to waiting too long.");
-                i--; // list index modify
-                isCustomerPresent = false;
-                startCustomerCooldown();
-            }
-
-            // If the customer completed their order
-            if (customer.isOrderComplete()){
-                customers.remove(i);
-                customerCount++;
-                isCustomerPresent = false;
-                System.out.println("Order complete. Customer left.");
-                i--;
-                startCustomerCooldown();
-            }
         }
+        perfMonitor.recordCustomerUpdate(System.nanoTime() - start);
+    }
 
-        // Notify when 3 customers have been served
-        if (customerCount>=3) {
-            System.out.println("3 customers served.");
-
-        }
+    public Simulation getSimulation() {
+        return simulation;
     }
-    public void removeCustomer(Customer customer) {
-        customers.remove(customer);
-        spawnNewCustomer();
-        repaint();
+
+    /**
+     * Returns the clock the game time follows; pausing or speeding it up applies from the next update.
+     */
+    public ScaledClock getClock() {
+        return clock;
     }
 
-    private void startCustomerCooldown() {
-        Timer cooldownTimer = new Timer (10000, e -> {
-            if (!isCustomerPresent){
-                spawnNewCustomer();
-            }
-        });
-        cooldownTimer.setRepeats(false);
-        cooldownTimer.start();
+    private void togglePause() {
+        if (clock.isPaused()) {
+            clock.resume();
+        } else {
+            clock.pause();
+        }
+        System.out.println(clock.isPaused() ? "Game paused." : "Game resumed.");
     }
 
     /**
-     * Spawns a new customer at a random X position and moves them down to the target Y position.
+     * Sets the game speed multiplier, kept between {@value #MIN_SPEED} and {@value #MAX_SPEED}.
      */
-    private void spawnNewCustomer() {
-        int spawnX = random.nextInt(180) + 70;
-        NormalCustomer newCustomer = new NormalCustomer(spawnX, CUSTOMER_SPAWN_Y) {
-            private double currentY = CUSTOMER_SPAWN_Y;
-            private static final double MOVE_SPEED = 2.0;
-
-            @Override
-            public void update() {
-                if (currentY > CUSTOMER_TARGET_Y) {
-                    currentY -= MOVE_SPEED;
-                    y = (int) currentY;
+    private void setGameSpeed(double speed) {
+        clock.setSpeed(Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed)));
+        System.out.println("Game speed: x" + clock.getSpeed());
+    }
 
-                    facing = Direction.UP;
-                    isMoving = true;
-                } else {
-                    isMoving = false;
-                    facing = Direction.DOWN;
-                    y = CUSTOMER_TARGET_Y;
-                }
+    /**
+     * Fast-forwards the game time to when the next crop ripens, if one is growing.
+     */
+    private void skipToNextRipeCrop() {
+        long nextRipeTime = farm.getNextRipeTime();
+        long remaining = nextRipeTime - simulation.getTime();
+        if (nextRipeTime != Long.MAX_VALUE && remaining > 0) {
+            clock.fastForward(remaining);
+        }
+    }
 
-                super.update();
-                if (spawnTime == 0){
-                    spawnTime = System.currentTimeMillis(); // 손님 등장 시간 기록
-                }
-            }
+    /**
+     * Keeps a view for every customer of the simulation.
+     */
+    private void setupCustomerViews() {
+        simulation.addListener(new Simulation.Listener() {
             @Override
-            public boolean isWaitingTooLong() {
-                return System.currentTimeMillis() - spawnTime > maxWaitingTime;
+            public void customerArrived(SimCustomer customer) {
+                customers.add(new NormalCustomer(customer));
+                System.out.println("New customer added at position: " + customer.getX() + ", " + customer.getY());  // 디버깅용
             }
+
             @Override
-            public boolean isOrderComplete() {
-                return false;
+            public void customerLeft(SimCustomer customer, boolean served) {
+                customers.removeIf(view -> view.getModel() == customer);
+                System.out.println(served ? "Order complete. Customer left." : "A customer has left due to waiting too long.");
             }
-        };
+        });
+    }
+
+    private void setKeyDown(int keyCode, boolean down) {
+        if (keyCode >= 0 && keyCode < keyState.length()) {
+            keyState.set(keyCode, down ? 1 : 0);
+        }
+    }
 
-        RecipeManager recipeManager = RecipeManager.getInstance();
-        List<Recipe> recipes = recipeManager.getRandomRecipes(3); // 랜덤으로 3개 선택
-        newCustomer.assignRecipes(recipes);
-        customers.add(newCustomer);
-        isCustomerPresent = true;
-        System.out.println("New customer added at position: " + spawnX + ", " + CUSTOMER_SPAWN_Y);  // 디버깅용
+    private boolean isKeyDown(int keyCode) {
+        return keyState.get(keyCode) != 0;
     }
+
     /**
      * Updates the player's movement based on key input.
      */
     private void updatePlayerMovement() {
         int dx = 0;
         int dy = 0;
-        if (keyState[KeyEvent.VK_A]) dx -= 1;
-        if (keyState[KeyEvent.VK_D]) dx += 1;
-        if (keyState[KeyEvent.VK_W]) dy -= 1;
-        if (keyState[KeyEvent.VK_S]) dy += 1;
+        if (isKeyDown(KeyEvent.VK_A)) dx -= 1;
+        if (isKeyDown(KeyEvent.VK_D)) dx += 1;
+        if (isKeyDown(KeyEvent.VK_W)) dy -= 1;
+        if (isKeyDown(KeyEvent.VK_S)) dy += 1;
 
         // Move the player if they're not already moving to a target
         if (!playerRenderer.isMovingToTarget() && (dx != 0 || dy != 0)) {
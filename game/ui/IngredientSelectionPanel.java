@@ -1,7 +1,8 @@
 package game.ui;
 
 import game.entity.NormalCustomer;
-import domain.item.Item;
+import domain.item.ItemSprites;
+import domain.item.ItemType;
 import domain.Player;
 
 import javax.swing.*;
@@ -18,7 +19,7 @@ public class IngredientSelectionPanel extends JDialog {
     public static final int MAX_INGREDIENTS = 5;  // Maximum number of ingredients that can be selected
     private InventoryPanel inventoryPanel;
     private Player player;
-    private Item[] selectedIngredients;
+    private ItemType[] selectedIngredients;
     private JPanel ingredientSlotsPanel;
     private ActionListener submitListener;
     private NormalCustomer normalCustomer;
@@ -34,7 +35,7 @@ public class IngredientSelectionPanel extends JDialog {
         this.player = player;
         this.normalCustomer = normalCustomer;
         this.gamePanel = gamePanel;
-        this.selectedIngredients = new Item[MAX_INGREDIENTS];  // Initialize the selected ingredients array
+        this.selectedIngredients = new ItemType[MAX_INGREDIENTS];  // Initialize the selected ingredients array
         this.gameWindow = gameWindow;
         initialize();
     }
@@ -47,21 +48,14 @@ public class IngredientSelectionPanel extends JDialog {
         if (player != null && selectedIngredients != null) {
             List<String> selectedIngredientNames = new ArrayList<>();
             // Collect the names of selected ingredients
-            for (Item ingredient : selectedIngredients) {
+            for (ItemType ingredient : selectedIngredients) {
                 if (ingredient != null) {
-                    selectedIngredientNames.add(ingredient.getName());
+                    selectedIngredientNames.add(ingredient.getDisplayName());
                 }
             }
-            // Update customer satisfaction based on the selected ingredients
-            normalCustomer.updateSatisfaction(selectedIngredientNames);
-
-            // Calculate the reward for the player
-            int reward = normalCustomer.calculateReward();
-            player.earnMoney(reward);
+            // Score the dish and pay the player; the customer leaves the game
+            int reward = gameWindow.getSimulation().serve(normalCustomer.getModel(), selectedIngredientNames);
             JOptionPane.showMessageDialog(this, "You have earned " + reward + " euros!");
-
-            // Remove the customer from the game window
-            gameWindow.removeCustomer(normalCustomer);
         }
 
         // Close the dialog
@@ -77,7 +71,6 @@ public class IngredientSelectionPanel extends JDialog {
         // Create the inventory panel to display the player's items
         inventoryPanel = new InventoryPanel(player, null);  // GamePanel is not needed here, passing null
         add(inventoryPanel, BorderLayout.CENTER);
-        inventoryPanel.updateInventory(player.getInventory());  // Update the inventory display
 
         // Create the ingredient slots panel with a fixed grid layout
         ingredientSlotsPanel = new JPanel(new GridLayout(1, MAX_INGREDIENTS));
@@ -109,13 +102,13 @@ public class IngredientSelectionPanel extends JDialog {
     /**
      * Updates the display of a specific ingredient slot based on the selected item.
      */
-    private void updateIngredientSlot(int slotIndex, Item selectedItem) {
+    private void updateIngredientSlot(int slotIndex, ItemType selectedItem) {
         JLabel slotLabel = (JLabel) ingredientSlotsPanel.getComponent(slotIndex);
 
         if (selectedItem != null) {
             // Display the item icon and name if an item is selected
-            slotLabel.setIcon(new ImageIcon(selectedItem.getSprite(50, 50)));  // Display resized item sprite
-            slotLabel.setText(selectedItem.getName());  // Display item name
+            slotLabel.setIcon(new ImageIcon(ItemSprites.getInstance().getSprite(selectedItem, 50, 50)));  // Display resized item sprite
+            slotLabel.setText(selectedItem.getDisplayName());  // Display item name
             slotLabel.setHorizontalTextPosition(SwingConstants.CENTER);  // Align text horizontally
             slotLabel.setVerticalTextPosition(SwingConstants.BOTTOM);  // Align text below the icon
         } else {
@@ -135,24 +128,22 @@ public class IngredientSelectionPanel extends JDialog {
     private void toggleIngredientSlot(int slotIndex) {
         // If the slot already contains an item, remove it from the slot and return it to the player's inventory
         if (selectedIngredients[slotIndex] != null) {
-            Item itemToRemove = selectedIngredients[slotIndex];
-            player.addItem(itemToRemove);  // Add the item back to the player's inventory
+            ItemType itemToRemove = selectedIngredients[slotIndex];
+            player.addItem(itemToRemove, 1);  // Add the item back to the player's inventory
             selectedIngredients[slotIndex] = null;  // Clear the slot
             updateIngredientSlot(slotIndex, null);  // Update the slot UI to reflect the removal
-            inventoryPanel.updateInventory(player.getInventory());  // Update the inventory display
-            JOptionPane.showMessageDialog(this, itemToRemove.getName() + " has been removed from Slot " + (slotIndex + 1));
+            JOptionPane.showMessageDialog(this, itemToRemove.getDisplayName() + " has been removed from Slot " + (slotIndex + 1));
 
             // Deselect the currently selected item in the inventory
             inventoryPanel.setSelectedItem(null);
         } else {
             // If the slot is empty, place the selected item from the inventory into the slot
-            Item selectedItem = inventoryPanel.getSelectedItem();
+            ItemType selectedItem = inventoryPanel.getSelectedItem();
             if (selectedItem != null) {
                 selectedIngredients[slotIndex] = selectedItem;
-                player.removeItem(selectedItem.getName());  // Remove the item from the player's inventory
+                player.removeItem(selectedItem, 1);  // Remove the item from the player's inventory
                 updateIngredientSlot(slotIndex, selectedItem);  // Update the slot UI to show the item
-                inventoryPanel.updateInventory(player.getInventory());  // Update the inventory display
-                JOptionPane.showMessageDialog(this, selectedItem.getName() + " has been added to Slot " + (slotIndex + 1));
+                JOptionPane.showMessageDialog(this, selectedItem.getDisplayName() + " has been added to Slot " + (slotIndex + 1));
                 inventoryPanel.setSelectedItem(null);  // Deselect the item in the inventory
             } else {
                 JOptionPane.showMessageDialog(this, "No item selected.");
@@ -160,11 +151,17 @@ public class IngredientSelectionPanel extends JDialog {
         }
     }
 
+    @Override
+    public void dispose() {
+        inventoryPanel.detach();  // Stop receiving inventory events once the dialog is closed
+        super.dispose();
+    }
+
     public void addSubmitListener(ActionListener listener) {
         this.submitListener = listener;
     }
 
-    public Item getSelectedIngredient(int index) {
+    public ItemType getSelectedIngredient(int index) {
         return selectedIngredients[index];
     }
 }
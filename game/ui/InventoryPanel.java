@@ -1,12 +1,14 @@
 package game.ui;
 
-import domain.item.Item;
+import domain.Inventory;
+import domain.InventoryEvent;
+import domain.item.ItemType;
 import domain.Player;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.Arrays;
+import java.util.function.Consumer;
 import javax.swing.*;
-import java.util.*;
-import java.util.List;
 /**
  * A panel that displays the player's inventory, allowing them to select and view items.
  * Each inventory slot can contain a specific item and quantity.
@@ -18,20 +20,32 @@ public class InventoryPanel extends JPanel {
 
     private InventorySlot[][] slots;
     private Player player;
-    private Item selectedItem;
+    private ItemType selectedItem;
     private GamePanel gamePanel;
+    private final int[] slotByType; // Slot index of each item type (by ordinal), -1 if not shown
+    private final Consumer<InventoryEvent> inventoryListener = this::applyInventoryChanges;
 
     public InventoryPanel(Player player, GamePanel gamePanel) {
         this.player = player;
         this.gamePanel = gamePanel;
         this.slots = new InventorySlot[ROWS][COLS];
+        this.slotByType = new int[ItemType.values().length];
+        Arrays.fill(slotByType, -1);
 
         setPreferredSize(new Dimension(300, 300));
         initializeSlots();
         addMouseListener(new InventoryMouseListener());
 
         // Add listener to detect inventory changes
-        player.addInventoryChangeListener(this::updateInventory);
+        player.addInventoryChangeListener(inventoryListener);
+        updateInventory(player.getInventory());
+    }
+
+    /**
+     * Stops listening to the player's inventory. Call when the panel is discarded.
+     */
+    public void detach() {
+        player.removeInventoryChangeListener(inventoryListener);
     }
 
     /**
@@ -51,36 +65,81 @@ public class InventoryPanel extends JPanel {
     }
 
     /**
-     * Updates the inventory display with the given list of items.
-     * This method groups items by name and updates the slots accordingly.
+     * Rebuilds the whole inventory display from the given inventory.
+     * Each item type held occupies one slot showing its count.
      */
-    public void updateInventory(List<Item> items) {
+    public void updateInventory(Inventory inventory) {
         for (int i = 0; i < ROWS; i++) {
             for (int j = 0; j < COLS; j++) {
                 slots[i][j].setItem(null, 0);
             }
         }
+        Arrays.fill(slotByType, -1);
 
-        // Group items by their names
-        Map<String, List<Item>> itemGroups = new HashMap<>();
-        for (Item item : items) {
-            itemGroups.computeIfAbsent(item.getName(), k -> new ArrayList<>()).add(item);
-        }
-
-        // Place grouped items into the inventory slots
+        // Place each stack into the inventory slots
         int slotIndex = 0;
-        for (Map.Entry<String, List<Item>> entry : itemGroups.entrySet()) {
+        for (ItemType type : inventory.getTypes()) {
             if (slotIndex >= ROWS * COLS) break;
 
             int row = slotIndex / COLS;
             int col = slotIndex % COLS;
-            slots[row][col].setItem(entry.getValue().get(0), entry.getValue().size());
+            slots[row][col].setItem(type, inventory.getCount(type));
+            slotByType[type.ordinal()] = slotIndex;
             slotIndex++;
         }
 
         repaint();
     }
 
+    /**
+     * Applies inventory deltas, touching and repainting only the slots whose item changed.
+     * A new stack takes the first free slot; an emptied stack frees its slot.
+     */
+    private void applyInventoryChanges(InventoryEvent event) {
+        for (InventoryEvent.Change change : event.getChanges()) {
+            ItemType type = change.getType();
+            int slotIndex = slotByType[type.ordinal()];
+
+            if (change.getNewCount() == 0) {
+                if (slotIndex >= 0) {
+                    InventorySlot slot = slotAt(slotIndex);
+                    if (type == selectedItem) {
+                        slot.setSelected(false);
+                        selectedItem = null;
+                    }
+                    slot.setItem(null, 0);
+                    slotByType[type.ordinal()] = -1;
+                    repaint(slot.getBounds());
+                }
+                continue;
+            }
+
+            if (slotIndex < 0) {
+                slotIndex = findFreeSlot();
+                if (slotIndex < 0) {
+                    continue; // No slot left to show this stack
+                }
+                slotByType[type.ordinal()] = slotIndex;
+            }
+            InventorySlot slot = slotAt(slotIndex);
+            slot.setItem(type, change.getNewCount());
+            repaint(slot.getBounds());
+        }
+    }
+
+    private InventorySlot slotAt(int slotIndex) {
+        return slots[slotIndex / COLS][slotIndex % COLS];
+    }
+
+    private int findFreeSlot() {
+        for (int slotIndex = 0; slotIndex < ROWS * COLS; slotIndex++) {
+            if (slotAt(slotIndex).getItem() == null) {
+                return slotIndex;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Paints the component, drawing the inventory background and the slots.
      * @param g The graphics context to use for painting
@@ -138,10 +197,10 @@ public class InventoryPanel extends JPanel {
             }
         }
     }
-    public void setSelectedItem(Item item) {
+    public void setSelectedItem(ItemType item) {
         this.selectedItem = item;
     }
-    public Item getSelectedItem() {
+    public ItemType getSelectedItem() {
         return selectedItem;
     }
 }
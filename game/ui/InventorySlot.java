@@ -1,13 +1,14 @@
 package game.ui;
 
-import domain.item.Item;
+import domain.item.ItemSprites;
+import domain.item.ItemType;
 import java.awt.*;
 
 public class InventorySlot {
     private static final int SLOT_SIZE = 50;
     private static final int PADDING = 5;
     private Rectangle bounds;
-    private Item item;
+    private ItemType item;
     private int count;
     private boolean selected;
 
@@ -18,16 +19,21 @@ public class InventorySlot {
     }
 
     // Set the item and its count for this slot
-    public void setItem(Item item, int count) {
+    public void setItem(ItemType item, int count) {
         this.item = item;
         this.count = count;
     }
 
     // Get the item in this slot
-    public Item getItem() {
+    public ItemType getItem() {
         return item;
     }
 
+    // Get the area covered by this slot, including the selection border
+    public Rectangle getBounds() {
+        return new Rectangle(bounds.x - 2, bounds.y - 2, bounds.width + 5, bounds.height + 5);
+    }
+
     // Check if a given point is inside the bounds of this slot
     public boolean contains(Point p) {
         return bounds.contains(p);
@@ -56,7 +62,7 @@ public class InventorySlot {
 
         if (item != null) {
             // Draw the item image inside the slot, with padding
-            Image itemSprite = item.getSprite(SLOT_SIZE - 2*PADDING, SLOT_SIZE - 2*PADDING);
+            Image itemSprite = ItemSprites.getInstance().getSprite(item, SLOT_SIZE - 2*PADDING, SLOT_SIZE - 2*PADDING);
             g.drawImage(itemSprite, 
                     bounds.x + PADDING, 
                     bounds.y + PADDING, 
@@ -0,0 +1,67 @@
+package game.ui;
+
+import game.asset.AssetPreloader;
+import javax.swing.*;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Font;
+
+/**
+ * Small undecorated window showing asset loading progress while the game starts.
+ * Progress may be reported from any thread; the window is updated on the EDT.
+ */
+public class LoadingScreen implements AssetPreloader.ProgressListener {
+    private JWindow window;
+    private JProgressBar progressBar;
+    private JLabel statusLabel;
+
+    /**
+     * Shows the loading window. Must be called on the EDT.
+     */
+    public void open() {
+        window = new JWindow();
+        JPanel content = new JPanel(new BorderLayout(0, 8));
+        content.setBorder(BorderFactory.createEmptyBorder(16, 16, 16, 16));
+        content.setBackground(Color.GREEN.darker());
+
+        JLabel title = new JLabel("Farming Game", SwingConstants.CENTER);
+        title.setFont(new Font("Arial", Font.BOLD, 20));
+        title.setForeground(Color.WHITE);
+        content.add(title, BorderLayout.NORTH);
+
+        progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        content.add(progressBar, BorderLayout.CENTER);
+
+        statusLabel = new JLabel("Loading...", SwingConstants.CENTER);
+        statusLabel.setForeground(Color.WHITE);
+        content.add(statusLabel, BorderLayout.SOUTH);
+
+        window.setContentPane(content);
+        window.setSize(320, 120);
+        window.setLocationRelativeTo(null);
+        window.setVisible(true);
+    }
+
+    @Override
+    public void progress(int loaded, int total, String path) {
+        SwingUtilities.invokeLater(() -> {
+            if (window == null) {
+                return;
+            }
+            progressBar.setMaximum(total);
+            progressBar.setValue(loaded);
+            statusLabel.setText(path);
+        });
+    }
+
+    /**
+     * Hides and releases the loading window. Must be called on the EDT.
+     */
+    public void close() {
+        if (window != null) {
+            window.dispose();
+            window = null;
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package game.ui;
 
-import domain.item.Item;
+import domain.item.ItemType;
+import domain.item.ShopCatalog;
 import domain.item.ShopItemManager;
 import domain.Player;
+import domain.PurchaseReceipt;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.List;
 
 public class ShopPanel extends JPanel {
     private static final int ROWS = 5;
@@ -18,6 +19,7 @@ public class ShopPanel extends JPanel {
     private Player player;
     private GamePanel gamePanel;  // GamePanel 참조
     private boolean isVisible = false;  // ShopPanel 보이기/숨기기 여부
+    private long shownCatalogVersion = -1; // Version of the catalog currently in the slots
 
     public ShopPanel(Player player, GamePanel gamePanel) {
         this.player = player;
@@ -27,7 +29,7 @@ public class ShopPanel extends JPanel {
         setPreferredSize(new Dimension(300, 300));
         initializeSlots();
         addMouseListener(new ShopMouseListener());
-        updateShop(ShopItemManager.getAllItems()); // Load available items into the shop
+        updateShop(ShopItemManager.getCatalog()); // Load available items into the shop
     }
 
     private void initializeSlots() {
@@ -70,24 +72,24 @@ public class ShopPanel extends JPanel {
             for (int i = 0; i < ROWS; i++) {
                 for (int j = 0; j < COLS; j++) {
                     if (slots[i][j].contains(point)) { // Check if the click was inside the slot
-                        Item selectedItem = slots[i][j].getItem(); // Get the item in the clicked slot
+                        ItemType selectedItem = slots[i][j].getItem(); // Get the item in the clicked slot
+                        if (selectedItem == null) {
+                            return; // Empty slot
+                        }
 
                         // Show input dialog for entering item quantity
                         String input = JOptionPane.showInputDialog(ShopPanel.this,
-                                "Enter quantity for " + selectedItem.getName() + ":");
+                                "Enter quantity for " + selectedItem.getDisplayName() + ":");
                         if (input != null) {
                             try {
                                 int quantity = Integer.parseInt(input);
-                                if (quantity > 0 && player.getMoney() >= selectedItem.getPrice() * quantity) {
-                                    // Proceed with purchase if valid quantity and sufficient funds
-                                    player.spendMoney(selectedItem.getPrice() * quantity);
-                                    for (int q = 0; q < quantity; q++) {
-                                        player.addItem(selectedItem);  // Add item to player's inventory
-                                    }
-                                    JOptionPane.showMessageDialog(ShopPanel.this, "Purchased " + quantity + " " + selectedItem.getName());
+                                // Buy the whole order in one transaction
+                                PurchaseReceipt receipt = player.purchase(selectedItem, quantity);
+                                if (receipt.isSuccessful()) {
+                                    JOptionPane.showMessageDialog(ShopPanel.this, "Purchased " + quantity + " " + selectedItem.getDisplayName());
                                 } else {
-                                    // Show error if insufficient funds or invalid quantity
-                                    JOptionPane.showMessageDialog(ShopPanel.this, "Insufficient funds or invalid quantity", "Error", JOptionPane.ERROR_MESSAGE);
+                                    // Show why the order was rejected
+                                    JOptionPane.showMessageDialog(ShopPanel.this, describeFailure(receipt), "Error", JOptionPane.ERROR_MESSAGE);
                                 }
                             } catch (NumberFormatException ex) {
                                 // Show error if the input is not a valid number
@@ -100,15 +102,36 @@ public class ShopPanel extends JPanel {
         }
     }
 
-    // Update the shop with new available items
-    public void updateShop(List<Item> availableItems) {
+    private static String describeFailure(PurchaseReceipt receipt) {
+        switch (receipt.getStatus()) {
+            case INSUFFICIENT_FUNDS:
+                return String.format("Insufficient funds: the order costs €%.2f", receipt.getTotalCost());
+            case INVENTORY_FULL:
+                return "Inventory is full! No free slot for a new item.";
+            default:
+                return "Invalid quantity";
+        }
+    }
+
+    // Update the shop with new available items, skipping the work if this catalog version is already shown
+    public void updateShop(ShopCatalog catalog) {
+        if (catalog.getVersion() == shownCatalogVersion) {
+            return;
+        }
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLS; j++) {
+                slots[i][j].setItem(null);
+            }
+        }
         int index = 0;
-        for (Item item : availableItems) {
+        for (ItemType item : catalog.getItems()) {
             if (index >= ROWS * COLS) break; // Stop if there are more items than available slots
             int row = index / COLS;
             int col = index % COLS;
             slots[row][col].setItem(item); // Set item in the respective slot
             index++;
         }
+        shownCatalogVersion = catalog.getVersion();
+        repaint();
     }
 }
\ No newline at end of file
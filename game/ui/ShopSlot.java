@@ -1,6 +1,9 @@
 package game.ui;
 
-import domain.item.Item;
+import domain.item.ItemSprites;
+import domain.item.ItemType;
+import game.asset.HudStyle;
+import game.asset.HudText;
 
 import java.awt.*;
 
@@ -8,8 +11,10 @@ public class ShopSlot {
     private static final int SLOT_SIZE = 50;
     private static final int PADDING = 5;
     private Rectangle bounds;
-    private Item item;
+    private ItemType item;
     private boolean selected;
+    private final HudText priceText = new HudText(
+            cents -> String.format("€%.2f", cents / 100.0)); // Price in cents, laid out when it changes
 
     // Constructor to initialize the position of the slot
     public ShopSlot(int x, int y) {
@@ -18,12 +23,12 @@ public class ShopSlot {
     }
 
     // Set the item for this slot
-    public void setItem(Item item) {
+    public void setItem(ItemType item) {
         this.item = item;
     }
 
     // Get the item in this slot
-    public Item getItem() { return item; }
+    public ItemType getItem() { return item; }
 
     // Check if a given point is inside the bounds of this slot
     public boolean contains(Point p) {
@@ -53,23 +58,22 @@ public class ShopSlot {
 
         if (item != null) {
             // Draw the item image inside the slot, with padding
-            Image itemSprite = item.getSprite(SLOT_SIZE - 2*PADDING, SLOT_SIZE - 2*PADDING);
+            Image itemSprite = ItemSprites.getInstance().getSprite(item, SLOT_SIZE - 2*PADDING, SLOT_SIZE - 2*PADDING);
             g.drawImage(itemSprite,
                     bounds.x + PADDING,
                     bounds.y + PADDING,
                     null);
 
             // Display the price of the item in euros, formatted to two decimal places
-            g.setColor(Color.BLACK);
-            String priceStr = String.format("€%.2f", item.getPrice()); // Format price with euro sign
-            FontMetrics fm = g.getFontMetrics();
-            int textX = bounds.x + bounds.width - fm.stringWidth(priceStr) - 5;
+            g.setColor(HudStyle.LABEL_TEXT);
+            priceText.setFont(g.getFont());
+            priceText.setValue(Math.round(item.getPrice() * 100));
+            int textX = bounds.x + bounds.width - priceText.getWidth() - 5;
             int textY = bounds.y + bounds.height - 5;
-            g.drawString(priceStr, textX, textY); // Draw price in the bottom-right corner
+            priceText.draw(g, textX, textY); // Draw price in the bottom-right corner
 
             // Display the item name at the top of the slot
-            g.setColor(Color.BLACK);
-            g.drawString(item.getName(), bounds.x + 5, bounds.y + 15); // Draw the item name with some padding
+            g.drawString(item.getDisplayName(), bounds.x + 5, bounds.y + 15); // Draw the item name with some padding
         }
     }
 }
\ No newline at end of file
@@ -1,38 +1,28 @@
 package main;
 
 import java.util.Scanner;
-import core.CommandProcessor;
-import core.CommandRegistry;
-import domain.Farm;
-import domain.Player;
+import core.GameSession;
+import core.RngService;
 
+/**
+ * Text version of the game on the console: one {@link GameSession}, one command per line.
+ */
 public class Main {
-    private static boolean isRunning = true;
 
     public static void main(String[] args) {
-
-        Player player = new Player(20);
-        Farm farm = new Farm();
-        CommandRegistry registry = new CommandRegistry(player, farm);
-        registry.registerDefaults();
-        CommandProcessor processor = new CommandProcessor(registry);
+        GameSession session = new GameSession(1, RngService.newSessionSeed(), System.out);
         Scanner scanner = new Scanner(System.in);
+        session.greet();
 
-        System.out.println("Welcome to Game!");
-        System.out.println("Type 'help' for a list of commands or 'quit' to exit.");
-
-        // The main game loop
+        // The main game loop, until the player quits or input ends
+        boolean isRunning = true;
         while (isRunning) {
             System.out.print("> ");
-            String input = scanner.nextLine();
-            if ("quit".equalsIgnoreCase(input)) {
-                isRunning = false;
-            } else {
-                processor.process(input);
+            if (!scanner.hasNextLine()) {
+                break;
             }
+            isRunning = session.handle(scanner.nextLine());
         }
-
-        System.out.println("Exiting the game... \nGoodbye!");
     }
 
 }
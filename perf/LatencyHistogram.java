@@ -0,0 +1,124 @@
+package perf;
+
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds with log-linear buckets.
+ * Every power of two is split into {@value #SUB_BUCKETS} equal buckets, so any recorded
+ * value is known to within about 3% whatever its magnitude, with a fixed number of buckets.
+ * Recording is a few atomic increments and never blocks, so several threads may record
+ * while another one reads percentiles or writes the histogram out.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = Long.SIZE - SUB_BUCKET_BITS; // Powers of two above the linear range
+    private static final int BUCKETS = SUB_BUCKETS + MAGNITUDES * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one duration. Negative durations are counted as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        long max;
+        while (value > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, value)) {
+            // Retry until the larger value is stored or another thread stored a larger one
+        }
+    }
+
+    /**
+     * Index of the bucket holding a value. Values below {@link #SUB_BUCKETS} get a bucket each;
+     * above that the bucket width doubles with every power of two.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value); // floor(log2(value)), >= SUB_BUCKET_BITS
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Highest value that falls into a bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (SUB_BUCKETS + sub) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Returns the value below which the given share of recorded durations falls.
+     * @param percentile Between 0 and 100
+     * @return The upper bound of the bucket holding that percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return totalCount.get(); }
+    public long getTotalNanos() { return totalNanos.get(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+    public double getMeanNanos() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalNanos.get() / count;
+    }
+
+    /**
+     * Writes one CSV row per non-empty bucket: name, bucket upper bound in nanoseconds,
+     * count, and the share of all recorded values at or below that bound.
+     */
+    public void writeCsv(PrintWriter out) {
+        long count = totalCount.get();
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount == 0) {
+                continue;
+            }
+            seen += bucketCount;
+            out.printf("%s,%d,%d,%.6f%n", name, highestValueOf(i), bucketCount, count == 0 ? 0.0 : (double) seen / count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[count=%d, mean=%.3f ms, p50=%.3f ms, p99=%.3f ms, max=%.3f ms]",
+                name, getCount(), getMeanNanos() / 1e6, getValueAtPercentile(50) / 1e6,
+                getValueAtPercentile(99) / 1e6, getMaxNanos() / 1e6);
+    }
+}
@@ -0,0 +1,301 @@
+package perf;
+
+import core.CommandLineOptions;
+import core.GameSession;
+import core.RngService;
+import domain.Farm;
+import server.GameServer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test for the text command interface: scripted bots, one session each, send weighted mixes
+ * of till/plant/harvest/farm/player/buy/customers commands at a fixed rate and the generator
+ * reports throughput and latency percentiles per command. Set up from key=value arguments:
+ * <pre>
+ *   java perf.LoadGenerator bots=1000 rate=5 duration=30 warmup=5 target=local seed=1
+ *        mix=till:3,plant:3,harvest:2,farm:1,player:1,buy:1
+ * </pre>
+ * The target is where the bots play: "local" runs a {@link GameSession} per bot in this JVM,
+ * through the same command registry and processor as the text game; "embedded" starts a
+ * {@link GameServer} in this JVM and connects to it over localhost; HOST:PORT connects to a
+ * running server.
+ * <p>
+ * Each bot runs on its own thread and sends one command every 1/rate seconds (rate=0: as fast
+ * as answers come back). Latency is measured from the moment a command was due, not from when it
+ * was sent, so a bot falling behind shows up in the percentiles instead of lowering the load.
+ */
+public class LoadGenerator {
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    /**
+     * Commands the bots send, each on a random plot of the default farm where it takes one.
+     */
+    private enum Action {
+        TILL {
+            String line(SplittableRandom random) { return "till " + plot(random); }
+        },
+        PLANT {
+            String line(SplittableRandom random) { return "plant tomato " + plot(random); }
+        },
+        HARVEST {
+            String line(SplittableRandom random) { return "harvest " + plot(random); }
+        },
+        FARM {
+            String line(SplittableRandom random) { return "farm"; }
+        },
+        PLAYER {
+            String line(SplittableRandom random) { return "player"; }
+        },
+        BUY {
+            String line(SplittableRandom random) { return "buy tomato 1"; }
+        },
+        CUSTOMERS {
+            String line(SplittableRandom random) { return "customers"; }
+        };
+
+        abstract String line(SplittableRandom random);
+
+        private static String plot(SplittableRandom random) {
+            return random.nextInt(Farm.DEFAULT_WIDTH) + " " + random.nextInt(Farm.DEFAULT_HEIGHT);
+        }
+    }
+
+    /**
+     * A bot's way into the game: runs one command line and waits for the whole answer.
+     */
+    private interface Connection extends Closeable {
+        void execute(String line) throws IOException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int bots = Integer.parseInt(options.getOrDefault("bots", "1000"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "5"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        String target = options.getOrDefault("target", "local");
+        Map<Action, Integer> mix = mix(options.getOrDefault("mix", "till:3,plant:3,harvest:2,farm:1,player:1,buy:1"));
+        if (bots <= 0 || rate < 0 || duration <= 0 || warmup < 0) {
+            throw new IllegalArgumentException("bots and duration must be positive, rate and warmup not negative");
+        }
+
+        Map<Action, LatencyHistogram> latencies = new EnumMap<>(Action.class);
+        for (Action action : mix.keySet()) {
+            latencies.put(action, new LatencyHistogram(action.name().toLowerCase()));
+        }
+        Action[] weighted = weighted(mix);
+
+        GameServer server = null;
+        String host = null;
+        int port = 0;
+        if (target.equals("embedded")) {
+            server = new GameServer(0, seed).start();
+            host = "127.0.0.1";
+            port = server.getPort();
+        } else if (!target.equals("local")) {
+            int separator = target.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected local, embedded or HOST:PORT: " + target);
+            }
+            host = target.substring(0, separator);
+            port = Integer.parseInt(target.substring(separator + 1));
+        }
+
+        System.out.printf("Bots: %d on %s threads, target %s, %s, %d s after %d s warm-up%n",
+                bots, GameServer.hasVirtualThreads() ? "virtual" : "platform", target,
+                rate > 0 ? rate + " commands/s each" : "closed loop", duration, warmup);
+
+        long start = System.nanoTime();
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(warmup);
+        long end = recordFrom + TimeUnit.SECONDS.toNanos(duration);
+        AtomicInteger failedBots = new AtomicInteger();
+        ExecutorService executor = GameServer.newThreadPerTaskExecutor("load-bot");
+        for (int i = 0; i < bots; i++) {
+            int index = i;
+            String botHost = host;
+            int botPort = port;
+            executor.execute(() -> {
+                try (Connection connection = botHost == null ? local(index, seed) : remote(botHost, botPort)) {
+                    runBot(connection, new SplittableRandom(RngService.deriveSeed(seed, index)), weighted,
+                            rate, recordFrom, end, latencies);
+                } catch (IOException | RuntimeException e) {
+                    if (failedBots.getAndIncrement() == 0) {
+                        System.out.println("Bot " + index + " failed: " + e);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration + warmup + 60L, TimeUnit.SECONDS);
+        if (server != null) {
+            server.close();
+        }
+
+        report(latencies, duration);
+        if (failedBots.get() > 0) {
+            System.out.println(failedBots.get() + " bots failed");
+        }
+    }
+
+    /**
+     * Sends commands until the end time, recording the latency of those due after the warm-up.
+     */
+    private static void runBot(Connection connection, SplittableRandom random, Action[] weighted, double rate,
+                               long recordFrom, long end, Map<Action, LatencyHistogram> latencies) throws IOException {
+        long interval = rate > 0 ? (long) (1e9 / rate) : 0;
+        long due = System.nanoTime() + (interval > 0 ? random.nextLong(interval) : 0); // Spread the bots over one interval
+        while (due < end) {
+            long now = System.nanoTime();
+            if (due > now) {
+                LockSupport.parkNanos(due - now);
+            } else if (interval == 0) {
+                due = now;
+            }
+            Action action = weighted[random.nextInt(weighted.length)];
+            connection.execute(action.line(random));
+            if (due >= recordFrom) {
+                latencies.get(action).record(System.nanoTime() - due);
+            }
+            due += interval;
+        }
+    }
+
+    /**
+     * A session in this JVM, printing into a stream that discards the output.
+     */
+    private static Connection local(int index, long seed) {
+        GameSession session = new GameSession(index + 1, RngService.deriveSeed(seed, index),
+                new PrintStream(OutputStream.nullOutputStream()));
+        return new Connection() {
+            @Override
+            public void execute(String line) {
+                session.handle(line);
+            }
+
+            @Override
+            public void close() {
+                session.handle("quit");
+            }
+        };
+    }
+
+    /**
+     * A session on a game server, reading each answer up to its end line.
+     */
+    private static Connection remote(String host, int port) throws IOException {
+        return new RemoteConnection(new Socket(host, port));
+    }
+
+    private static final class RemoteConnection implements Connection {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        RemoteConnection(Socket socket) throws IOException {
+            this.socket = socket;
+            try {
+                socket.setTcpNoDelay(true);
+                in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                readAnswer(); // The greeting
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void execute(String line) throws IOException {
+            out.print(line);
+            out.print('\n');
+            out.flush();
+            readAnswer();
+        }
+
+        private void readAnswer() throws IOException {
+            String answer;
+            while ((answer = in.readLine()) != null && !answer.equals(GameServer.END_OF_RESPONSE)) {
+                // Skip the command's output
+            }
+            if (answer == null) {
+                throw new IOException("Server closed the connection");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                execute("quit");
+            } finally {
+                socket.close();
+            }
+        }
+    }
+
+    private static void report(Map<Action, LatencyHistogram> latencies, int duration) {
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n",
+                "command", "count", "per s", "p50 us", "p99 us", "p99.9 us", "max us");
+        long total = 0;
+        for (LatencyHistogram histogram : latencies.values()) {
+            StringBuilder percentiles = new StringBuilder();
+            for (double percentile : PERCENTILES) {
+                percentiles.append(String.format(" %10.1f", histogram.getValueAtPercentile(percentile) / 1e3));
+            }
+            System.out.printf("%-10s %10d %10.0f%s %10.1f%n", histogram.getName(), histogram.getCount(),
+                    (double) histogram.getCount() / duration, percentiles, histogram.getMaxNanos() / 1e3);
+            total += histogram.getCount();
+        }
+        System.out.printf("%-10s %10d %10.0f%n", "all", total, (double) total / duration);
+    }
+
+    /**
+     * Command weights from "name:weight,..." pairs, e.g. "till:3,farm:1".
+     */
+    private static Map<Action, Integer> mix(String value) {
+        Map<Action, Integer> mix = new EnumMap<>(Action.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Action action = Action.valueOf(parts[0].trim().toUpperCase());
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weights must be positive: " + entry);
+            }
+            mix.put(action, weight);
+        }
+        return mix;
+    }
+
+    /**
+     * Each action repeated by its weight, so a uniform pick follows the mix.
+     */
+    private static Action[] weighted(Map<Action, Integer> mix) {
+        List<Action> weighted = new ArrayList<>();
+        for (Map.Entry<Action, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                weighted.add(entry.getKey());
+            }
+        }
+        return weighted.toArray(new Action[0]);
+    }
+}
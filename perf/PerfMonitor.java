@@ -0,0 +1,154 @@
+package perf;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collects frame timings of the game: simulation updates, customer updates and rendering
+ * each go into a {@link LatencyHistogram}. {@link #sample} turns the counters into the lines
+ * shown by the performance overlay (FPS, mean and tail times, allocation rate, GC pauses),
+ * and the histograms can be written to a CSV file, for example when the game exits.
+ */
+public class PerfMonitor {
+    private static final long SAMPLE_INTERVAL_NANOS = 500_000_000L; // Overlay refresh rate
+
+    private final LatencyHistogram updateTimes = new LatencyHistogram("update");
+    private final LatencyHistogram customerUpdateTimes = new LatencyHistogram("customers");
+    private final LatencyHistogram renderTimes = new LatencyHistogram("render");
+    private final AtomicLong skippedFrames = new AtomicLong(); // Frames with nothing to redraw
+
+    // Overlay sampling state, only touched by the thread calling sample()
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastSampleAt;
+    private long lastFrames, lastSkipped, lastUpdates, lastUpdateNanos, lastRenderNanos;
+    private long lastAllocatedBytes = -1;
+    private long lastGcCount, lastGcMillis;
+    private volatile String[] lines = new String[0];
+
+    public void recordUpdate(long nanos) { updateTimes.record(nanos); }
+    public void recordCustomerUpdate(long nanos) { customerUpdateTimes.record(nanos); }
+    public void recordRender(long nanos) { renderTimes.record(nanos); }
+    public void recordSkippedFrame() { skippedFrames.incrementAndGet(); }
+
+    public LatencyHistogram getUpdateTimes() { return updateTimes; }
+    public LatencyHistogram getCustomerUpdateTimes() { return customerUpdateTimes; }
+    public LatencyHistogram getRenderTimes() { return renderTimes; }
+    public long getSkippedFrames() { return skippedFrames.get(); }
+
+    /**
+     * Refreshes the overlay text if the sampling interval has passed.
+     * @param entities Supplies the entity counts to show, e.g. "customers 1  crops 12";
+     *                 only called when a new sample is taken
+     * @return true if the lines changed
+     */
+    public boolean sample(Supplier<String> entities) {
+        long now = System.nanoTime();
+        if (lastSampleAt != 0 && now - lastSampleAt < SAMPLE_INTERVAL_NANOS) {
+            return false;
+        }
+        double seconds = lastSampleAt == 0 ? 0 : (now - lastSampleAt) / 1e9;
+        lastSampleAt = now;
+
+        long frames = renderTimes.getCount();
+        long skipped = skippedFrames.get();
+        long updates = updateTimes.getCount();
+        long updateNanos = updateTimes.getTotalNanos();
+        long renderNanos = renderTimes.getTotalNanos();
+        long allocated = getAllocatedBytes();
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+
+        if (seconds > 0) {
+            long intervalFrames = frames - lastFrames;
+            long intervalUpdates = updates - lastUpdates;
+            lines = new String[] {
+                    String.format("FPS %.1f  skipped %.1f/s  UPS %.1f", intervalFrames / seconds,
+                            (skipped - lastSkipped) / seconds, intervalUpdates / seconds),
+                    String.format("update %.3f ms  p99 %.3f ms", mean(updateNanos - lastUpdateNanos, intervalUpdates),
+                            updateTimes.getValueAtPercentile(99) / 1e6),
+                    String.format("render %.3f ms  p99 %.3f ms", mean(renderNanos - lastRenderNanos, intervalFrames),
+                            renderTimes.getValueAtPercentile(99) / 1e6),
+                    String.format("customers p99 %.3f ms", customerUpdateTimes.getValueAtPercentile(99) / 1e6),
+                    allocated < 0 ? "alloc n/a" : String.format("alloc %.2f MB/s",
+                            Math.max(0, allocated - lastAllocatedBytes) / seconds / (1024 * 1024)),
+                    String.format("GC %d pauses, %d ms", gcCount - lastGcCount, gcMillis - lastGcMillis),
+                    entities.get()
+            };
+        }
+        lastFrames = frames;
+        lastSkipped = skipped;
+        lastUpdates = updates;
+        lastUpdateNanos = updateNanos;
+        lastRenderNanos = renderNanos;
+        lastAllocatedBytes = allocated;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        return seconds > 0;
+    }
+
+    /**
+     * @return The overlay text from the last sample
+     */
+    public String[] getLines() {
+        return lines;
+    }
+
+    private static double mean(long nanos, long count) {
+        return count == 0 ? 0 : nanos / 1e6 / count;
+    }
+
+    /**
+     * Bytes allocated by all live threads so far, or -1 if the JVM cannot tell.
+     */
+    private long getAllocatedBytes() {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        if (!allocation.isThreadAllocatedMemorySupported() || !allocation.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return Arrays.stream(allocation.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    /**
+     * Writes all histograms to a CSV file with the columns metric, value_ns, count, cumulative.
+     */
+    public void writeCsv(String path) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(path))) {
+            out.println("metric,value_ns,count,cumulative");
+            updateTimes.writeCsv(out);
+            customerUpdateTimes.writeCsv(out);
+            renderTimes.writeCsv(out);
+        }
+    }
+
+    /**
+     * Writes the histograms to the given file when the JVM shuts down.
+     */
+    public void writeCsvOnExit(String path) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                writeCsv(path);
+                System.out.println("Frame times written to " + path);
+            } catch (IOException e) {
+                System.out.println("Could not write frame times: " + e.getMessage());
+            }
+        }, "perf-csv-writer"));
+    }
+}
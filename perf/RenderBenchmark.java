@@ -0,0 +1,185 @@
+package perf;
+
+import core.CommandLineOptions;
+import core.CommandRegistry;
+import core.ManualClock;
+import core.RngService;
+import domain.Farm;
+import domain.Player;
+import domain.item.HarvestItem;
+import domain.item.ItemType;
+import game.asset.AssetManifest;
+import game.asset.AssetPreloader;
+import game.asset.SpriteAtlas;
+import game.entity.Customer;
+import game.entity.NormalCustomer;
+import game.entity.PlayerRenderer;
+import game.ui.GamePanel;
+import sim.Simulation;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Renders the game panel into an offscreen image without a display and reports the time and
+ * memory allocated per frame. The scene is synthetic and set up from key=value arguments:
+ * <pre>
+ *   java -Djava.awt.headless=true perf.RenderBenchmark farm=8x6 tilled=1.0 crops=0.75 mix=TOMATO,CORN
+ *        customers=3 frames=2000 warmup=500 size=800x600 seed=42
+ * </pre>
+ * Crops are planted at random points of their growth, so every growth phase is drawn;
+ * the game clock advances 16 ms per frame so crops keep growing while frames are rendered.
+ */
+public class RenderBenchmark {
+    private static final long FRAME_MILLIS = 16;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int[] farmSize = size(options.getOrDefault("farm", Farm.DEFAULT_WIDTH + "x" + Farm.DEFAULT_HEIGHT));
+        int[] viewSize = size(options.getOrDefault("size", "800x600"));
+        double tilledShare = Double.parseDouble(options.getOrDefault("tilled", "1.0"));
+        double cropShare = Double.parseDouble(options.getOrDefault("crops", "0.75"));
+        List<ItemType> mix = cropMix(options.getOrDefault("mix", "all"));
+        int customerCount = Integer.parseInt(options.getOrDefault("customers", "3"));
+        int frames = Integer.parseInt(options.getOrDefault("frames", "2000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "500"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        SplittableRandom random = new SplittableRandom(seed); // Synthetic scene, not part of the game
+
+        new AssetPreloader().load(AssetManifest.scanSprites(), null);
+        SpriteAtlas.getInstance().preloadCharacters();
+        SpriteAtlas.getInstance().preloadCrops();
+
+        // Synthetic scene
+        ManualClock clock = new ManualClock(1_000_000);
+        Farm farm = new Farm(farmSize[0], farmSize[1], clock);
+        int planted = plant(farm, clock, tilledShare, cropShare, mix, random);
+        Simulation simulation = new Simulation(new Player(20), farm, clock, new RngService(seed));
+        PlayerRenderer playerRenderer = new PlayerRenderer(50, 50);
+        List<Customer> customers = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            int x = 100 + (i * 60) % Math.max(60, viewSize[0] - 140);
+            customers.add(new NormalCustomer(simulation.spawnCustomer(x, Simulation.CUSTOMER_TARGET_Y)));
+        }
+        CommandRegistry registry = new CommandRegistry(simulation);
+        GamePanel panel = new GamePanel(simulation, playerRenderer, registry, customers);
+        panel.setSize(viewSize[0], viewSize[1]);
+
+        BufferedImage target = new BufferedImage(viewSize[0], viewSize[1], BufferedImage.TYPE_INT_RGB);
+        System.out.printf("Scene: farm %dx%d, %d crops, %d customers, view %dx%d%n",
+                farmSize[0], farmSize[1], planted, customerCount, viewSize[0], viewSize[1]);
+
+        renderFrames(panel, target, clock, customers, warmup);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        LatencyHistogram frameTimes = renderFrames(panel, target, clock, customers, frames);
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("Frames: %d (after %d warm-up)%n", frames, warmup);
+        System.out.printf("Time:   %.3f ms/frame (p50 %.3f, p99 %.3f, max %.3f ms)%n",
+                elapsed / 1e6 / frames, frameTimes.getValueAtPercentile(50) / 1e6,
+                frameTimes.getValueAtPercentile(99) / 1e6, frameTimes.getMaxNanos() / 1e6);
+        System.out.println(allocatedBefore < 0 ? "Alloc:  n/a"
+                : String.format("Alloc:  %.0f bytes/frame", (double) allocated / frames));
+    }
+
+    /**
+     * Renders frames into the target image, stepping customers and the clock between frames.
+     */
+    private static LatencyHistogram renderFrames(GamePanel panel, BufferedImage target, ManualClock clock,
+                                                 List<Customer> customers, int frames) {
+        LatencyHistogram frameTimes = new LatencyHistogram("frame");
+        for (int i = 0; i < frames; i++) {
+            clock.advance(FRAME_MILLIS);
+            for (Customer customer : customers) {
+                customer.savePosition();
+                customer.update();
+            }
+            long start = System.nanoTime();
+            Graphics2D g = target.createGraphics();
+            try {
+                panel.render(g, 1.0);
+            } finally {
+                g.dispose();
+            }
+            frameTimes.record(System.nanoTime() - start);
+        }
+        return frameTimes;
+    }
+
+    /**
+     * Tills a share of the plots and plants a share of those, each crop planted a random
+     * time ago so the scene shows all growth phases.
+     * @return Number of crops planted
+     */
+    private static int plant(Farm farm, ManualClock clock, double tilledShare, double cropShare,
+                             List<ItemType> mix, SplittableRandom random) {
+        long now = clock.currentTimeMillis();
+        int planted = 0;
+        for (int x = 0; x < farm.getWidth(); x++) {
+            for (int y = 0; y < farm.getHeight(); y++) {
+                if (random.nextDouble() >= tilledShare) {
+                    continue;
+                }
+                farm.setTilled(x, y, true);
+                if (random.nextDouble() >= cropShare) {
+                    continue;
+                }
+                ItemType type = mix.get(random.nextInt(mix.size()));
+                clock.setTime(now - (long) (random.nextDouble() * type.getGrowthTime() * 1000L));
+                if (farm.plantCrop(x, y, (HarvestItem) type.createItem())) {
+                    planted++;
+                }
+            }
+        }
+        clock.setTime(now);
+        return planted;
+    }
+
+    private static List<ItemType> cropMix(String value) {
+        List<ItemType> mix = new ArrayList<>();
+        if (value.equalsIgnoreCase("all")) {
+            for (ItemType type : ItemType.values()) {
+                if (type.isCrop()) {
+                    mix.add(type);
+                }
+            }
+            return mix;
+        }
+        for (String name : value.split(",")) {
+            ItemType type = ItemType.valueOf(name.trim().toUpperCase());
+            if (!type.isCrop()) {
+                throw new IllegalArgumentException("Not a crop: " + name);
+            }
+            mix.add(type);
+        }
+        return mix;
+    }
+
+    private static int[] size(String value) {
+        String[] parts = value.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected WIDTHxHEIGHT: " + value);
+        }
+        return new int[] {Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+    /**
+     * Bytes allocated by the current thread so far, or -1 if the JVM cannot tell.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
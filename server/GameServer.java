@@ -0,0 +1,206 @@
+package server;
+
+import core.CommandLineOptions;
+import core.GameSession;
+import core.RngService;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts many independent text-mode games on localhost. Each connection gets its own
+ * {@link GameSession} and its own thread, which owns the session for its whole life, so
+ * sessions need no locks between them. Started from key=value arguments:
+ * <pre>
+ *   java server.GameServer port=7777 seed=1
+ * </pre>
+ * The protocol is line based: the client sends one command per line, as in the text game, and
+ * the server answers with the lines the command printed followed by a line holding only
+ * {@value #END_OF_RESPONSE}. The greeting on connect ends the same way. "quit" ends the session.
+ * <p>
+ * On a Java runtime with virtual threads each session runs on one, so tens of thousands of
+ * players fit in one JVM; older runtimes fall back to a platform thread per session with a
+ * small stack.
+ */
+public class GameServer implements Closeable {
+    public static final int DEFAULT_PORT = 7777;
+    public static final String END_OF_RESPONSE = ".";
+    private static final int ACCEPT_BACKLOG = 4096;                   // Pending connections, for load tests connecting at once
+    private static final long PLATFORM_THREAD_STACK_SIZE = 256 * 1024; // Fallback only; session threads need little stack
+
+    private final ServerSocket serverSocket;
+    private final long baseSeed;             // Session seeds are derived from it and the session id
+    private final ExecutorService executor;  // One thread per session
+    private final boolean virtualThreads;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextSessionId = new AtomicInteger();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private volatile boolean running = true;
+
+    /**
+     * Opens the server socket on the loopback address. Sessions are served once {@link #serve()}
+     * or {@link #start()} is called.
+     * @param port     TCP port, or 0 for any free port
+     * @param baseSeed Seed the session seeds are derived from
+     */
+    public GameServer(int port, long baseSeed) throws IOException {
+        this.serverSocket = new ServerSocket(port, ACCEPT_BACKLOG, InetAddress.getLoopbackAddress());
+        this.baseSeed = baseSeed;
+        this.virtualThreads = hasVirtualThreads();
+        this.executor = newThreadPerTaskExecutor("game-session");
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(RngService.newSessionSeed())));
+        try (GameServer server = new GameServer(port, seed)) {
+            System.out.println("Game server listening on " + InetAddress.getLoopbackAddress().getHostAddress()
+                    + ":" + server.getPort() + ", seed " + seed + ", "
+                    + (server.usesVirtualThreads() ? "virtual threads" : "platform threads"));
+            server.serve();
+        }
+    }
+
+    /**
+     * Accepts connections on a background thread.
+     * @return This server
+     */
+    public GameServer start() {
+        Thread acceptor = new Thread(this::serve, "game-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for each.
+     */
+    public void serve() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                executor.execute(() -> runSession(socket));
+            } catch (IOException e) {
+                if (running) {
+                    System.out.println("Failed to accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays one session until the player quits or disconnects. Runs on the session's own thread.
+     */
+    private void runSession(Socket socket) {
+        int id = nextSessionId.incrementAndGet();
+        activeSessions.incrementAndGet();
+        try (socket) {
+            socket.setTcpNoDelay(true); // Answers are small and the client waits for each one
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8);
+            GameSession session = new GameSession(id, RngService.deriveSeed(baseSeed, id - 1), out);
+            session.greet();
+            endResponse(out);
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                boolean open = session.handle(line);
+                endResponse(out);
+                if (!open) {
+                    break;
+                }
+            }
+        } catch (SocketException e) {
+            // The player disconnected or the server is closing
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Session " + id + " ended with an error: " + e);
+        } finally {
+            connections.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    private static void endResponse(PrintStream out) {
+        out.println(END_OF_RESPONSE);
+        out.flush();
+    }
+
+    /**
+     * Stops accepting connections and ends every open session.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Socket socket : connections) {
+            socket.close(); // Unblocks the session reading from it
+        }
+        executor.shutdown();
+    }
+
+    public int getPort() { return serverSocket.getLocalPort(); }
+    public int getActiveSessions() { return activeSessions.get(); }
+    public boolean usesVirtualThreads() { return virtualThreads; }
+
+    /**
+     * Executor that runs every task on a new thread of its own: a virtual thread when the runtime
+     * has them, otherwise a daemon platform thread with a small stack.
+     * @param name Name prefix of the platform threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        return virtual != null ? virtual : Executors.newCachedThreadPool(platformThreads(name));
+    }
+
+    /**
+     * @return true if {@link #newThreadPerTaskExecutor} runs tasks on virtual threads
+     */
+    public static boolean hasVirtualThreads() {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual == null) {
+            return false;
+        }
+        virtual.shutdown();
+        return true;
+    }
+
+    /**
+     * Executor with a new virtual thread per task, or null if this runtime has none.
+     * Looked up reflectively so the game still builds and runs on runtimes before virtual threads.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null; // Not available, or a preview feature that is not enabled
+        }
+    }
+
+    private static ThreadFactory platformThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(null, task, name + "-" + count.incrementAndGet(), PLATFORM_THREAD_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package sim;
+
+/**
+ * A scripted player for the {@link EconomySimulator}. Each session gets its own instance,
+ * which is called once per game second and plays through the public simulation API only,
+ * the same calls the Swing game makes.
+ */
+public interface BotStrategy {
+    /**
+     * @return Name shown in the report, e.g. "focus:tomato"
+     */
+    String getName();
+
+    /**
+     * Plays one turn: harvest, serve, plant, whatever the strategy does.
+     * @param simulation The session being played; only ticked by the caller
+     */
+    void act(Simulation simulation);
+}
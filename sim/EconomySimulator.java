@@ -0,0 +1,228 @@
+package sim;
+
+import core.CommandLineOptions;
+import core.RngService;
+import domain.item.ItemType;
+import domain.item.ShopItemManager;
+import domain.recipe.RecipeManager;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo balancing tool: plays thousands of headless game sessions with scripted bots,
+ * spread over all cores, and reports the distribution of earnings per game minute for each
+ * strategy and each recipe. Set up from key=value arguments:
+ * <pre>
+ *   java sim.EconomySimulator sessions=2000 minutes=30 step=100 seed=1
+ *        strategies=shop,demand,focus:tomato threads=8 csv=sessions.csv
+ * </pre>
+ * Every strategy plays the same seeds, so their customers order the same dishes in the same
+ * order as long as they serve at the same moments. Sessions share no mutable state and each one
+ * is seeded from the base seed and its index, so the report is the same for the same arguments
+ * whatever the number of threads. The game rules the sessions run print nothing; the commands
+ * and windows report their results, so the sessions never meet on the console's lock.
+ */
+public class EconomySimulator {
+    private static final long ACT_INTERVAL_MILLIS = 1000; // Game time between two bot turns
+    private static final double[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    /**
+     * Outcome of one session.
+     */
+    private static final class SessionResult {
+        final String strategy;
+        final long seed;
+        final double earningsPerMinute;
+        final int served;
+        final int walkouts;
+        final Map<String, Integer> rewardsByMenu;
+
+        SessionResult(String strategy, long seed, double earningsPerMinute, int served, int walkouts,
+                      Map<String, Integer> rewardsByMenu) {
+            this.strategy = strategy;
+            this.seed = seed;
+            this.earningsPerMinute = earningsPerMinute;
+            this.served = served;
+            this.walkouts = walkouts;
+            this.rewardsByMenu = rewardsByMenu;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "1000"));
+        int minutes = Integer.parseInt(options.getOrDefault("minutes", "30"));
+        double step = Double.parseDouble(options.getOrDefault("step", "100"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Map<String, Supplier<BotStrategy>> strategies = strategies(options.getOrDefault("strategies", "all"));
+        List<String> names = new ArrayList<>(strategies.keySet());
+        List<Supplier<BotStrategy>> factories = new ArrayList<>(strategies.values());
+        if (sessions <= 0 || minutes <= 0 || step <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("sessions, minutes, step and threads must be positive");
+        }
+
+        RecipeManager.getInstance(); // Shared read-only state, built before the workers start
+        ShopItemManager.getCatalog();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        List<SessionResult> results;
+        try {
+            results = pool.submit(() -> IntStream.range(0, names.size() * sessions)
+                    .parallel()
+                    .mapToObj(run -> play(factories.get(run / sessions).get(),
+                            RngService.deriveSeed(seed, run % sessions), minutes, step))
+                    .collect(Collectors.toList())).get();
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Sessions: %d per strategy, %d game minutes each, %.0f ms steps, seed %d%n",
+                sessions, minutes, step, seed);
+        System.out.printf("Time:     %.2f s on %d threads, %.0f sessions/s, %.0f game minutes/s%n",
+                elapsed / 1e9, threads, results.size() / (elapsed / 1e9),
+                (double) results.size() * minutes / (elapsed / 1e9));
+        printStrategies(names, results, minutes);
+        printRecipes(results, minutes);
+        if (options.containsKey("csv")) {
+            writeCsv(options.get("csv"), results, minutes);
+        }
+    }
+
+    /**
+     * Plays one session from the start of the game: ticks the simulation in fixed steps and lets
+     * the bot act once per game second.
+     */
+    private static SessionResult play(BotStrategy bot, long seed, int minutes, double step) {
+        Simulation simulation = new Simulation(seed);
+        double startMoney = simulation.getPlayer().getMoney();
+        long end = minutes * 60_000L;
+        long nextTurn = ACT_INTERVAL_MILLIS;
+        while (simulation.getTime() < end) {
+            simulation.tick(step);
+            if (simulation.getTime() >= nextTurn) {
+                bot.act(simulation);
+                nextTurn += ACT_INTERVAL_MILLIS;
+            }
+        }
+        double earnings = simulation.getPlayer().getMoney() - startMoney;
+        return new SessionResult(bot.getName(), seed, earnings / minutes, simulation.getServedCount(),
+                simulation.getWalkoutCount(), simulation.getRewardsByMenu());
+    }
+
+    private static void printStrategies(List<String> names, List<SessionResult> results, int minutes) {
+        System.out.println();
+        System.out.println("Earnings per game minute, by strategy");
+        System.out.printf("%-16s %8s %8s %8s %8s %8s %8s %11s %11s%n",
+                "strategy", "mean", "p5", "p25", "p50", "p75", "p95", "served/min", "walkout/min");
+        for (String name : names) {
+            List<SessionResult> runs = results.stream()
+                    .filter(result -> result.strategy.equals(name))
+                    .collect(Collectors.toList());
+            double[] earnings = runs.stream().mapToDouble(result -> result.earningsPerMinute).toArray();
+            double served = runs.stream().mapToInt(result -> result.served).average().orElse(0) / minutes;
+            double walkouts = runs.stream().mapToInt(result -> result.walkouts).average().orElse(0) / minutes;
+            System.out.printf("%-16s %s %11.2f %11.2f%n", name, distribution(earnings), served, walkouts);
+        }
+    }
+
+    /**
+     * Per recipe, what each session earned from dishes scored against it, over all strategies.
+     */
+    private static void printRecipes(List<SessionResult> results, int minutes) {
+        List<String> menus = RecipeManager.getInstance().getAllRecipeNames();
+        Collections.sort(menus);
+        System.out.println();
+        System.out.println("Earnings per game minute, by recipe (all strategies)");
+        System.out.printf("%-16s %8s %8s %8s %8s %8s %8s%n", "recipe", "mean", "p5", "p25", "p50", "p75", "p95");
+        for (String menu : menus) {
+            double[] earnings = results.stream()
+                    .mapToDouble(result -> result.rewardsByMenu.getOrDefault(menu, 0) / (double) minutes)
+                    .toArray();
+            System.out.printf("%-16s %s%n", menu, distribution(earnings));
+        }
+    }
+
+    /**
+     * Mean and percentiles (nearest rank) of the values, formatted as table columns.
+     */
+    private static String distribution(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        StringBuilder columns = new StringBuilder(String.format("%8.2f", Arrays.stream(sorted).average().orElse(0)));
+        for (double percentile : PERCENTILES) {
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            columns.append(String.format(" %8.2f", sorted.length == 0 ? 0 : sorted[Math.max(0, rank - 1)]));
+        }
+        return columns.toString();
+    }
+
+    private static void writeCsv(String path, List<SessionResult> results, int minutes) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(path))) {
+            out.println("strategy,seed,earnings_per_minute,served,walkouts,minutes");
+            for (SessionResult result : results) {
+                out.printf("%s,%d,%.4f,%d,%d,%d%n", result.strategy, result.seed, result.earningsPerMinute,
+                        result.served, result.walkouts, minutes);
+            }
+        }
+        System.out.println();
+        System.out.println("Wrote " + results.size() + " sessions to " + path);
+    }
+
+    /**
+     * Strategies by name: "all", or a comma separated list of shop, demand and focus:CROP.
+     * "all" grows each crop the shop sells seeds of.
+     */
+    private static Map<String, Supplier<BotStrategy>> strategies(String value) {
+        List<String> names = new ArrayList<>();
+        if (value.equalsIgnoreCase("all")) {
+            names.add("shop");
+            names.add("demand");
+            for (ItemType type : ShopItemManager.getCatalog().getByCategory(ItemType.Category.CROP)) {
+                names.add("focus:" + type.name());
+            }
+        } else {
+            names.addAll(Arrays.asList(value.split(",")));
+        }
+
+        Map<String, Supplier<BotStrategy>> strategies = new LinkedHashMap<>();
+        for (String name : names) {
+            Supplier<BotStrategy> factory = strategy(name.trim().toLowerCase());
+            strategies.put(factory.get().getName(), factory);
+        }
+        return strategies;
+    }
+
+    private static Supplier<BotStrategy> strategy(String name) {
+        if (name.equals("shop")) {
+            return FarmerBot::shopper;
+        }
+        if (name.equals("demand")) {
+            return FarmerBot::demand;
+        }
+        if (name.startsWith("focus:")) {
+            ItemType crop = ItemType.fromName(name.substring("focus:".length()));
+            if (crop == null || !crop.isCrop()) {
+                throw new IllegalArgumentException("Not a crop: " + name);
+            }
+            return () -> FarmerBot.focus(crop);
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+}
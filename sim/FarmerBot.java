@@ -0,0 +1,217 @@
+package sim;
+
+import domain.Farm;
+import domain.Player;
+import domain.item.HarvestItem;
+import domain.item.ItemType;
+import domain.item.ShopCatalog;
+import domain.item.ShopItemManager;
+import domain.recipe.Recipe;
+import domain.recipe.RecipeManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scripted player that runs the restaurant and, depending on its planting rule, the farm.
+ * Every turn it harvests all ripe crops, serves the waiting customer and plants empty plots.
+ * <p>
+ * To serve, it puts together the dish the customer is scored against from held items,
+ * buying missing ingredients the shop sells, and fills the plate up to the recipe's size with
+ * the cheapest other items held, since the ingredient count is scored too. It serves only
+ * if the reward beats what it spent on the dish; otherwise it lets the customer walk out.
+ * The bot reads the scored menu directly, which a human player has to guess from the order.
+ */
+public class FarmerBot implements BotStrategy {
+    private static final double CASH_RESERVE = 10; // Money kept back for dish ingredients when buying seeds
+    private static final int HARVEST_STRIDE = 2 * Simulation.HARVEST_RANGE + 1; // Harvest spots cover the farm without overlap
+    private static final ItemType[] BY_PRICE = ItemType.values(); // Filler candidates, cheapest first
+
+    static {
+        Arrays.sort(BY_PRICE, Comparator.comparingDouble(ItemType::getPrice));
+    }
+
+    /**
+     * What the bot plants on empty plots.
+     */
+    private enum Planting {
+        NONE,   // Never farms, buys every ingredient
+        FOCUS,  // Keeps every plot planted with one crop
+        DEMAND  // Plants the crops the waiting customer's dish needs and nobody grows yet
+    }
+
+    private final String name;
+    private final Planting planting;
+    private final ItemType focusCrop; // Crop grown on every plot, FOCUS only
+
+    private FarmerBot(String name, Planting planting, ItemType focusCrop) {
+        this.name = name;
+        this.planting = planting;
+        this.focusCrop = focusCrop;
+    }
+
+    /**
+     * A bot that never farms and buys every ingredient in the shop.
+     */
+    public static FarmerBot shopper() {
+        return new FarmerBot("shop", Planting.NONE, null);
+    }
+
+    /**
+     * A bot that keeps every plot planted with one crop and cooks with the harvest.
+     * @param crop A crop the shop sells seeds of
+     */
+    public static FarmerBot focus(ItemType crop) {
+        if (!crop.isCrop()) {
+            throw new IllegalArgumentException("Not a crop: " + crop);
+        }
+        return new FarmerBot("focus:" + crop.getDisplayName().toLowerCase(), Planting.FOCUS, crop);
+    }
+
+    /**
+     * A bot that grows what the customers order.
+     */
+    public static FarmerBot demand() {
+        return new FarmerBot("demand", Planting.DEMAND, null);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void act(Simulation simulation) {
+        harvest(simulation);
+        for (SimCustomer customer : simulation.getCustomers()) {
+            if (!customer.isWalking()) {
+                serve(simulation, customer);
+            }
+        }
+        plant(simulation);
+    }
+
+    /**
+     * Harvests every ripe crop, standing on as few plots as possible.
+     */
+    private void harvest(Simulation simulation) {
+        Farm farm = simulation.getFarm();
+        if (farm.getReadyCount() == 0) {
+            return;
+        }
+        int range = Simulation.HARVEST_RANGE;
+        for (int x = range; x - range < farm.getWidth(); x += HARVEST_STRIDE) {
+            for (int y = range; y - range < farm.getHeight(); y += HARVEST_STRIDE) {
+                simulation.harvestAround(Math.min(x, farm.getWidth() - 1), Math.min(y, farm.getHeight() - 1));
+            }
+        }
+    }
+
+    private void serve(Simulation simulation, SimCustomer customer) {
+        Recipe recipe = RecipeManager.getInstance().getRecipe(customer.getScoredMenu());
+        if (recipe == null) {
+            return;
+        }
+        Player player = simulation.getPlayer();
+        ShopCatalog catalog = ShopItemManager.getCatalog();
+        Map<ItemType, Integer> dish = new EnumMap<>(ItemType.class);
+        Map<ItemType, Integer> shoppingList = new EnumMap<>(ItemType.class);
+        double cost = 0;
+        int size = 0;
+
+        for (String ingredient : recipe.getIngredients()) {
+            ItemType type = ItemType.fromName(ingredient);
+            if (type == null) {
+                continue; // Not an item in this game (cheese, butter, potato)
+            }
+            if (player.getItemCount(type) > dish.getOrDefault(type, 0)) {
+                dish.merge(type, 1, Integer::sum);
+                size++;
+            } else if (catalog.contains(type) && cost + type.getPrice() <= player.getMoney()) {
+                dish.merge(type, 1, Integer::sum);
+                shoppingList.merge(type, 1, Integer::sum);
+                cost += type.getPrice();
+                size++;
+            }
+        }
+        for (ItemType type : BY_PRICE) {
+            while (size < recipe.getIngredients().size() && player.getItemCount(type) > dish.getOrDefault(type, 0)) {
+                dish.merge(type, 1, Integer::sum);
+                size++;
+            }
+        }
+
+        List<String> names = new ArrayList<>(size);
+        for (Map.Entry<ItemType, Integer> entry : dish.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                names.add(entry.getKey().getDisplayName());
+            }
+        }
+        if (customer.previewReward(names) <= cost) {
+            return;
+        }
+        if (!shoppingList.isEmpty() && !player.purchase(shoppingList).isSuccessful()) {
+            return;
+        }
+        player.batchInventoryChanges(() -> {
+            for (Map.Entry<ItemType, Integer> entry : dish.entrySet()) {
+                player.removeItem(entry.getKey(), entry.getValue());
+            }
+        });
+        simulation.serve(customer, names);
+    }
+
+    /**
+     * Tills and plants empty plots, buying a seed for each, while money above the reserve lasts.
+     */
+    private void plant(Simulation simulation) {
+        if (planting == Planting.NONE) {
+            return;
+        }
+        Farm farm = simulation.getFarm();
+        Player player = simulation.getPlayer();
+        for (int x = 0; x < farm.getWidth(); x++) {
+            for (int y = 0; y < farm.getHeight(); y++) {
+                if (farm.hasCrop(x, y)) {
+                    continue;
+                }
+                ItemType crop = planting == Planting.FOCUS ? focusCrop : neededCrop(simulation);
+                if (crop == null || player.getMoney() - crop.getPrice() < CASH_RESERVE
+                        || !ShopItemManager.getCatalog().contains(crop)) {
+                    return;
+                }
+                if (!player.purchase(crop, 1).isSuccessful()) {
+                    return;
+                }
+                player.removeItem(crop, 1); // The seed goes into the ground
+                farm.setTilled(x, y, true);
+                farm.plantCrop(x, y, (HarvestItem) crop.createItem());
+            }
+        }
+    }
+
+    /**
+     * @return A crop in the waiting customer's dish that is neither held nor growing, or null
+     */
+    private static ItemType neededCrop(Simulation simulation) {
+        Player player = simulation.getPlayer();
+        Farm farm = simulation.getFarm();
+        for (SimCustomer customer : simulation.getCustomers()) {
+            Recipe recipe = RecipeManager.getInstance().getRecipe(customer.getScoredMenu());
+            if (recipe == null) {
+                continue;
+            }
+            for (String ingredient : recipe.getIngredients()) {
+                ItemType type = ItemType.fromName(ingredient);
+                if (type != null && type.isCrop() && player.getItemCount(type) == 0 && farm.getCropCount(type) == 0) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+}
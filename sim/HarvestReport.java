@@ -0,0 +1,56 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one harvest: a message line per plot that was ripe, and the totals.
+ */
+public class HarvestReport {
+    private final List<String> lines = new ArrayList<>();
+    private int harvested;   // Crops harvested into the inventory
+    private int failed;      // Crops lost to a failed harvest
+    private int itemsGained; // Items added to the inventory
+
+    void harvested(String cropName, int yield) {
+        lines.add(yield + " " + cropName + " are harvested and added to inventory.");
+        harvested++;
+        itemsGained += yield;
+    }
+
+    void failed(String cropName) {
+        lines.add(cropName + " harvest failed.");
+        failed++;
+    }
+
+    void inventoryFull(String cropName) {
+        lines.add("Inventory is full! Cannot harvest " + cropName);
+    }
+
+    /**
+     * @return true if no ripe crop was in range
+     */
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * @return The report as shown to the player, one line per plot
+     */
+    public String getMessage() {
+        if (isEmpty()) {
+            return "No crops are ready to harvest in range.\n";
+        }
+        StringBuilder message = new StringBuilder();
+        for (String line : lines) {
+            message.append(line).append('\n');
+        }
+        return message.toString();
+    }
+
+    public List<String> getLines() { return Collections.unmodifiableList(lines); }
+    public int getHarvested() { return harvested; }
+    public int getFailed() { return failed; }
+    public int getItemsGained() { return itemsGained; }
+}
@@ -0,0 +1,182 @@
+package sim;
+
+import core.GameClock;
+import domain.recipe.Recipe;
+import domain.recipe.RecipeManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A customer as the simulation sees it: where they stand, how long they have waited, what
+ * they ordered and how a served dish is scored. Customers walk up from the spawn line to the
+ * counter, then wait until they are served or run out of patience. Nothing here draws; the
+ * Swing game shows each one through a {@link game.entity.Customer} view.
+ */
+public class SimCustomer {
+    private static final double WALK_SPEED = 120.0; // Pixels per second while walking to the counter
+
+    private final int id;
+    private final GameClock clock;  // Clock used to measure waiting time
+    private final int x;
+    private double y;
+    private final int targetY;      // Where the customer stops and waits
+    private final long spawnTime;   // The time the customer was created
+    private final int maxWaitingTime;
+    private final List<String> orderedMenus;
+    private final List<Recipe> assignedRecipes;
+    private final int look;         // Which look views give the customer, never negative
+    private int satisfactionLevel = 100; // satisfaction level (0~100)
+
+    SimCustomer(int id, int x, int y, int targetY, GameClock clock, int maxWaitingTime,
+                List<String> orderedMenus, List<Recipe> assignedRecipes, int look) {
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.targetY = targetY;
+        this.clock = clock;
+        this.spawnTime = clock.currentTimeMillis();
+        this.maxWaitingTime = maxWaitingTime;
+        this.orderedMenus = new ArrayList<>(orderedMenus);
+        this.assignedRecipes = Collections.unmodifiableList(new ArrayList<>(assignedRecipes));
+        this.look = look;
+    }
+
+    /**
+     * Walks towards the counter.
+     * @param dtMillis Game time since the last step
+     */
+    void step(double dtMillis) {
+        if (y > targetY) {
+            y = Math.max(targetY, y - WALK_SPEED * dtMillis / 1000.0);
+        }
+    }
+
+    public boolean isWalking() {
+        return y > targetY;
+    }
+
+    public boolean isWaitingTooLong() {
+        return clock.currentTimeMillis() - spawnTime > maxWaitingTime;
+    }
+
+    /**
+     * @return Milliseconds left before the customer leaves, never negative
+     */
+    public long getRemainingTime() {
+        long remainingTime = maxWaitingTime - (clock.currentTimeMillis() - spawnTime);
+        return remainingTime > 0 ? remainingTime : 0; // Prevent negative remaining time
+    }
+
+    /**
+     * Updates the satisfaction level of the customer based on provided ingredients.
+     * @param ingredients List of ingredients given by the player.
+     */
+    public void updateSatisfaction(List<String> ingredients) {
+        satisfactionLevel = score(ingredients);
+    }
+
+    /**
+     * Calculates the reward a dish would earn, without changing the customer.
+     * @param ingredients Names of the ingredients in the dish
+     * @return The reward {@link #calculateReward()} would give after serving the dish
+     */
+    public int previewReward(List<String> ingredients) {
+        return rewardFor(score(ingredients));
+    }
+
+    /**
+     * The dish this customer judges every served dish against: the first of their ordered menus.
+     */
+    public String getScoredMenu() {
+        return orderedMenus.get(0);
+    }
+
+    /**
+     * Scores a dish against the first ordered menu. Ingredient names are compared ignoring case.
+     * @return Satisfaction level from 0 to 100
+     */
+    private int score(List<String> dishIngredients) {
+        Recipe recipe = RecipeManager.getInstance().getRecipe(getScoredMenu());
+        if (recipe == null) {
+            return 0; // Set satisfaction to 0 if recipe not found
+        }
+
+        List<String> recipeIngredients = recipe.getIngredients();
+        List<String> ingredients = new ArrayList<>(dishIngredients.size());
+        for (String ingredient : dishIngredients) {
+            ingredients.add(ingredient.toLowerCase()); // Recipes use lower case, item names are capitalized
+        }
+
+        // Criterion 1: Check if main ingredient is present (50 points)
+        String mainIngredient = recipeIngredients.get(0);
+        int score = ingredients.contains(mainIngredient) ? 50 : 0;
+
+        // Criterion 2: Penalize for ingredient count difference (-10 points per mismatch)
+        int ingredientDifference = Math.abs(recipeIngredients.size() - ingredients.size());
+        score -= ingredientDifference * 10;
+
+        // Criterion 3: Match additional ingredients (up to 50 points)
+        int additionalIngredientMatch = calculateAdditionalIngredientsMatch(recipeIngredients, ingredients);
+        score += additionalIngredientMatch * 50;
+
+        // Clamp the score between 0 and 100
+        return Math.max(0, Math.min(score, 100));
+    }
+
+    /**
+     * Calculates the reward for the player based of satisfaction level.
+     * @return The calculated reward value, negative if the player has to compensate the customer
+     */
+    public int calculateReward() {
+        return rewardFor(satisfactionLevel);
+    }
+
+    private int rewardFor(int satisfactionLevel) {
+        Recipe recipe = RecipeManager.getInstance().getRecipe(getScoredMenu());
+
+        if (recipe == null) {
+            return 0; // No reward if recipe not found
+        }
+
+        // Base reward from the recipe
+        int baseReward = recipe.getBaseReward();
+
+        // Calculate satisfaction score (e.g., satisfaction * 2 - 100)
+        double satisfactionScore = satisfactionLevel * 2 - 100;
+
+        // Final reward calculation
+        double reward = baseReward * (satisfactionScore / 100);
+        return (int) reward;
+    }
+
+    // Helper method: Calculate additional ingredient match rate
+    private static int calculateAdditionalIngredientsMatch(List<String> recipeIngredients, List<String> userIngredients) {
+        List<String> additionalRecipeIngredients = recipeIngredients.subList(1, recipeIngredients.size());
+
+        int matchCount = 0;
+        for (String ingredient : additionalRecipeIngredients) {
+            if (userIngredients.contains(ingredient)) {
+                matchCount++;
+            }
+        }
+
+        // Calculate match rate and round to the nearest integer
+        return (int) Math.round((double) matchCount / (additionalRecipeIngredients.size()));
+    }
+
+    // Getters
+    public int getId() { return id; }
+    public int getX() { return x; }
+    public int getY() { return (int) y; }
+    public long getSpawnTime() { return spawnTime; }
+    public int getSatisfactionLevel() { return satisfactionLevel; }
+    public List<String> getOrderedMenus() { return Collections.unmodifiableList(orderedMenus); }
+    public List<Recipe> getAssignedRecipes() { return assignedRecipes; }
+
+    /**
+     * Which look the customer has, drawn with the rest of the session; views map it onto
+     * their sprites, e.g. modulo the number of sheets.
+     */
+    public int getLook() { return look; }
+}
@@ -0,0 +1,293 @@
+package sim;
+
+import core.GameClock;
+import core.ManualClock;
+import core.RngService;
+import domain.Farm;
+import domain.Player;
+import domain.item.HarvestItem;
+import domain.recipe.Recipe;
+import domain.recipe.RecipeManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The game rules without a display: the player, the farm, the customers and the game clock,
+ * advanced in steps by {@link #tick}. Game time only moves when the simulation is ticked, so
+ * the Swing game ticks it from its game loop in real time while batch jobs and benchmarks can
+ * tick it as fast as the CPU allows. Given the same seed and the same calls, two simulations
+ * play out the same way: every random choice is drawn from the {@link RngService} of the session.
+ * <p>
+ * Customers arrive one at a time. After a customer walks out, the next one comes
+ * {@value #SPAWN_DELAY_MILLIS} ms later; after one is served, the next one comes right away.
+ * <p>
+ * All methods may be called from any thread; they are serialized on the simulation.
+ */
+public class Simulation {
+    public static final int CUSTOMER_SPAWN_Y = 600;
+    public static final int CUSTOMER_TARGET_Y = 300;
+    private static final long SPAWN_DELAY_MILLIS = 10000; // Time before the next customer comes
+    private static final int CUSTOMER_PATIENCE_MILLIS = 30000; // Maximum waiting time (1/2 minute)
+    private static final int MENUS_PER_ORDER = 3;
+    static final int HARVEST_RANGE = 1; // Plots around the player that are harvested
+
+    /**
+     * Receives customer arrivals and departures, on the thread that caused them.
+     */
+    public interface Listener {
+        void customerArrived(SimCustomer customer);
+
+        /**
+         * @param served true if the customer was served, false if they ran out of patience
+         */
+        void customerLeft(SimCustomer customer, boolean served);
+    }
+
+    private final Player player;
+    private final Farm farm;
+    private final ManualClock clock;
+    private final RngService rng;   // Random choices of this session
+    private final List<SimCustomer> customers = new CopyOnWriteArrayList<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private double pendingMillis; // Fraction of a millisecond not yet added to the clock
+    private long nextSpawnAt;
+    private int nextCustomerId = 1;
+    private long ticks;
+    private int servedCount;
+    private int walkoutCount;
+    private final Map<String, Integer> rewardsByMenu = new TreeMap<>(); // Money earned per scored menu
+
+    /**
+     * Creates a new game on the default farm, starting at game time 0.
+     * @param seed Session seed of every random choice in the game
+     */
+    public Simulation(long seed) {
+        this(new ManualClock(), new RngService(seed));
+    }
+
+    private Simulation(ManualClock clock, RngService rng) {
+        this(new Player(20), new Farm(Farm.DEFAULT_WIDTH, Farm.DEFAULT_HEIGHT, clock), clock, rng);
+    }
+
+    /**
+     * @param farm  Must measure growth with the given clock
+     * @param clock Game clock, advanced only by {@link #tick}
+     * @param rng   Random streams of the session, drawn from only by this simulation
+     */
+    public Simulation(Player player, Farm farm, ManualClock clock, RngService rng) {
+        if (farm.getClock() != clock) {
+            throw new IllegalArgumentException("The farm must use the simulation clock");
+        }
+        this.player = player;
+        this.farm = farm;
+        this.clock = clock;
+        this.rng = rng;
+        this.nextSpawnAt = clock.currentTimeMillis() + SPAWN_DELAY_MILLIS;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Advances the game: moves the clock, walks the customers, sends away those who waited
+     * too long, lets the next customer in when one is due, and ripens crops.
+     * @param dtMillis Game time to advance, in milliseconds; fractions are carried to the next tick
+     */
+    public synchronized void tick(double dtMillis) {
+        if (dtMillis < 0) {
+            throw new IllegalArgumentException("Cannot tick backwards: " + dtMillis);
+        }
+        pendingMillis += dtMillis;
+        long wholeMillis = (long) pendingMillis;
+        pendingMillis -= wholeMillis;
+        clock.advance(wholeMillis);
+        long now = clock.currentTimeMillis();
+
+        for (SimCustomer customer : customers) { // Iterates a snapshot, removal is safe
+            customer.step(dtMillis);
+            if (customer.isWaitingTooLong()) {
+                customers.remove(customer);
+                walkoutCount++;
+                nextSpawnAt = now + SPAWN_DELAY_MILLIS;
+                for (Listener listener : listeners) {
+                    listener.customerLeft(customer, false);
+                }
+            }
+        }
+        if (customers.isEmpty() && now >= nextSpawnAt) {
+            spawnCustomer(rng.stream(RngService.Stream.CUSTOMERS).nextInt(180) + 70, CUSTOMER_SPAWN_Y);
+        }
+
+        farm.update(); // Promote crops that ripened since the last tick
+        ticks++;
+    }
+
+    /**
+     * Advances the game by a long stretch of time, e.g. the time a text session sat idle, in as
+     * few ticks as the rules allow. Each tick runs up to the next moment something happens by
+     * itself: a customer arriving or running out of patience. Customers walk at a constant speed
+     * and crops ripen by the clock, so a long tick moves and ripens them exactly; an idle hour
+     * costs about two ticks per customer who came and went instead of one tick per frame.
+     * @param dtMillis Game time to advance, in milliseconds
+     */
+    public synchronized void fastForward(double dtMillis) {
+        double pending = dtMillis;
+        while (pending > 0) {
+            double step = Math.min(pending, millisToNextEvent());
+            tick(step);
+            pending -= step;
+        }
+    }
+
+    /**
+     * Game time until the next customer arrives or walks out, at least one millisecond.
+     */
+    private long millisToNextEvent() {
+        long now = clock.currentTimeMillis();
+        if (customers.isEmpty()) {
+            return Math.max(1, nextSpawnAt - now);
+        }
+        long next = Long.MAX_VALUE;
+        for (SimCustomer customer : customers) {
+            next = Math.min(next, customer.getRemainingTime() + 1); // They leave once the wait exceeds their patience
+        }
+        return Math.max(1, next);
+    }
+
+    /**
+     * Lets a customer in at the given position, with a random order. They walk up to the counter
+     * if they start below it. Normally customers arrive by themselves while ticking.
+     * @return The new customer
+     */
+    public synchronized SimCustomer spawnCustomer(int x, int y) {
+        RecipeManager recipeManager = RecipeManager.getInstance();
+        SplittableRandom orders = rng.stream(RngService.Stream.ORDERS);
+        List<String> availableMenus = recipeManager.getAllRecipeNames();
+        Collections.sort(availableMenus); // Same choices for the same seed, whatever the map order
+        List<String> orderedMenus = new ArrayList<>();
+        while (orderedMenus.size() < MENUS_PER_ORDER && !availableMenus.isEmpty()) {
+            orderedMenus.add(availableMenus.remove(orders.nextInt(availableMenus.size())));
+        }
+        List<Recipe> recipes = recipeManager.getRandomRecipes(MENUS_PER_ORDER, orders);
+
+        SimCustomer customer = new SimCustomer(nextCustomerId++, x, y, Math.min(y, CUSTOMER_TARGET_Y), clock,
+                CUSTOMER_PATIENCE_MILLIS, orderedMenus, recipes,
+                rng.stream(RngService.Stream.APPEARANCE).nextInt(Integer.MAX_VALUE));
+        customers.add(customer);
+        for (Listener listener : listeners) {
+            listener.customerArrived(customer);
+        }
+        return customer;
+    }
+
+    /**
+     * Serves a dish to a customer, who then leaves; the next customer comes on the next tick.
+     * @param customer    A customer of this simulation
+     * @param ingredients Names of the ingredients in the dish
+     * @return The money earned, negative if the player had to compensate the customer,
+     *         or 0 if the customer already left
+     */
+    public synchronized int serve(SimCustomer customer, List<String> ingredients) {
+        if (!customers.remove(customer)) {
+            return 0;
+        }
+        customer.updateSatisfaction(ingredients);
+        int reward = customer.calculateReward();
+        player.earnMoney(reward);
+        servedCount++;
+        rewardsByMenu.merge(customer.getScoredMenu(), reward, Integer::sum);
+        nextSpawnAt = clock.currentTimeMillis();
+        for (Listener listener : listeners) {
+            listener.customerLeft(customer, true);
+        }
+        return reward;
+    }
+
+    /**
+     * Harvests every ripe crop in range of a plot. Each harvest fails half of the time, losing
+     * the crop; otherwise it yields one to three items.
+     * @param tileX Column of the plot the player stands on
+     * @param tileY Row of the plot the player stands on
+     * @return What happened to each ripe crop
+     */
+    public synchronized HarvestReport harvestAround(int tileX, int tileY) {
+        HarvestReport report = new HarvestReport();
+        for (int i = tileX - HARVEST_RANGE; i <= tileX + HARVEST_RANGE; i++) {
+            for (int j = tileY - HARVEST_RANGE; j <= tileY + HARVEST_RANGE; j++) {
+                if (farm.contains(i, j)) {
+                    harvestPlot(i, j, report);
+                }
+            }
+        }
+        return report;
+    }
+
+    private void harvestPlot(int x, int y, HarvestReport report) {
+        // no crop to harvest
+        if (!farm.isReadyToHarvest(x, y)) {
+            return;
+        }
+        HarvestItem crop = farm.getCrop(x, y);
+        double chance = rng.stream(RngService.Stream.HARVEST).nextDouble();
+
+        // Check harvest success
+        if (chance < 0.5) {
+            farm.removeCrop(x, y);
+            report.failed(crop.getName());
+            return;
+        }
+        int cropYield = calculateYield(chance);
+
+        // Add crop to player's inventory
+        if (player.harvestCrop(crop, cropYield)) {
+            farm.harvestCrop(x, y); // Clear the plot
+            report.harvested(crop.getName(), cropYield);
+        } else {
+            report.inventoryFull(crop.getName());
+        }
+    }
+
+    /**
+     * Calculates the crop yield based on a random chance.
+     *
+     * @param chance The random chance value.
+     * @return The number of crops yielded.
+     */
+    private static int calculateYield(double chance) {
+        if (chance < 0.7) {
+            return 1;
+        } else if (chance < 0.8) {
+            return 2;
+        } else {
+            return 3;
+        }
+    }
+
+    // Getters
+    public Player getPlayer() { return player; }
+    public Farm getFarm() { return farm; }
+    public GameClock getClock() { return clock; }
+    public RngService getRng() { return rng; }
+    public long getTime() { return clock.currentTimeMillis(); }
+    public List<SimCustomer> getCustomers() { return Collections.unmodifiableList(customers); }
+    public synchronized long getTicks() { return ticks; }
+    public synchronized int getServedCount() { return servedCount; }
+    public synchronized int getWalkoutCount() { return walkoutCount; }
+
+    /**
+     * @return Money earned from served dishes so far, per menu the dishes were scored against
+     */
+    public synchronized Map<String, Integer> getRewardsByMenu() {
+        return new TreeMap<>(rewardsByMenu);
+    }
+}